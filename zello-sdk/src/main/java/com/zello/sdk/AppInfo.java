@@ -12,9 +12,15 @@ class AppInfo {
 
 	public final @NonNull String serviceClassName;
 
-	public AppInfo(@NonNull String packageName, @NonNull String serviceClassName) {
+	/**
+	 * Version of the binder command protocol declared by the app, 0 if commands are only accepted as broadcasts.
+	 */
+	public final int commandsVersion;
+
+	public AppInfo(@NonNull String packageName, @NonNull String serviceClassName, int commandsVersion) {
 		this.packageName = packageName;
 		this.serviceClassName = serviceClassName;
+		this.commandsVersion = commandsVersion;
 	}
 
 }
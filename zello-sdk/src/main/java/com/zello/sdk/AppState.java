@@ -40,6 +40,7 @@ public class AppState {
 	@Nullable String _networkUrl;
 	@Nullable String _username;
 	@Nullable String _externalId;
+	boolean _readOnly; // Shared instance published by the SDK; not copied
 
 	//endregion
 
@@ -51,8 +52,11 @@ public class AppState {
 	 *     This method does not affect the state of the Zello SDK.
 	 *     This method only resets the values for this copied instance of the <code>AppState</code>.
 	 * </p>
+	 *
+	 * @throws UnsupportedOperationException if the instance is shared by the SDK, for example one returned by {@link ZelloState}.
 	 */
 	public void reset() {
+		checkWritable();
 		_customBuild = false;
 		_configuring = false;
 		_locked = false;
@@ -345,10 +349,27 @@ public class AppState {
 
 	//region Package Private Methods
 
+	/**
+	 * Make the instance read only before it's shared with the app.
+	 */
+	void setReadOnly() {
+		_readOnly = true;
+	}
+
+	/**
+	 * Make sure that the instance isn't shared by the SDK before it's modified.
+	 */
+	void checkWritable() {
+		if (_readOnly) {
+			throw new UnsupportedOperationException("The state published by the SDK is shared; use clone() to get a copy that can be modified");
+		}
+	}
+
 	void copyTo(AppState state) {
 		if (state == null) {
 			return;
 		}
+		state.checkWritable();
 		state._customBuild = _customBuild;
 		state._available = _available;
 		state._error = _error;
@@ -358,6 +379,33 @@ public class AppState {
 		state._signedIn = _signedIn;
 		state._signingIn = _signingIn;
 		state._signingOut = _signingOut;
+		state._cancelling = _cancelling;
+		state._reconnectTimer = _reconnectTimer;
+		state._waitingForNetwork = _waitingForNetwork;
+		state._showContacts = _showContacts;
+		state._busy = _busy;
+		state._solo = _solo;
+		state._autoRun = _autoRun;
+		state._autoChannels = _autoChannels;
+		state._statusMessage = _statusMessage;
+		state._network = _network;
+		state._networkUrl = _networkUrl;
+		state._username = _username;
+		state._lastError = _lastError;
+		state._externalId = _externalId;
+	}
+
+	/**
+	 * Copy the values that are reported by the Zello Work app, leaving the state of the SDK connection unchanged.
+	 */
+	void copyReportedTo(@NonNull AppState state) {
+		state._customBuild = _customBuild;
+		state._configuring = _configuring;
+		state._locked = _locked;
+		state._signedIn = _signedIn;
+		state._signingIn = _signingIn;
+		state._signingOut = _signingOut;
+		state._cancelling = _cancelling;
 		state._reconnectTimer = _reconnectTimer;
 		state._waitingForNetwork = _waitingForNetwork;
 		state._showContacts = _showContacts;
@@ -0,0 +1,222 @@
+package com.zello.sdk;
+
+import java.util.Objects;
+
+import androidx.annotation.NonNull;
+
+/**
+ * <p>
+ * The <code>AppStateChange</code> class describes which parts of the {@link AppState} have changed.
+ * </p>
+ * <p>
+ * Each part is a bit in a mask; several related properties of the <code>AppState</code> share a bit.
+ * The SDK only reports a change when at least one bit is set.
+ * </p>
+ * <p>
+ * To use, override {@link Events#onAppStateChanged(AppStateChange)} and only update what has changed:
+ * </p>
+ * <pre>
+ * public void onAppStateChanged(AppStateChange change) {
+ *     if (change.has(AppStateChange.RECONNECT_TIMER)) {
+ *         updateReconnectTimer();
+ *     }
+ * }
+ * </pre>
+ */
+@SuppressWarnings({"WeakerAccess", "unused"})
+public class AppStateChange {
+
+	//region Public Constants
+
+	/**
+	 * {@link AppState#isAvailable()}
+	 */
+	public static final int AVAILABLE = 1;
+
+	/**
+	 * {@link AppState#isInitializing()}
+	 */
+	public static final int INITIALIZING = 1 << 1;
+
+	/**
+	 * {@link AppState#isCustomBuild()}
+	 */
+	public static final int CUSTOM_BUILD = 1 << 2;
+
+	/**
+	 * {@link AppState#isConfiguring()}
+	 */
+	public static final int CONFIGURING = 1 << 3;
+
+	/**
+	 * {@link AppState#isLocked()}
+	 */
+	public static final int LOCKED = 1 << 4;
+
+	/**
+	 * {@link AppState#isSignedIn()}, {@link AppState#isSigningIn()}, {@link AppState#isSigningOut()} and {@link AppState#isCancellingSignin()}
+	 */
+	public static final int SIGNED_IN = 1 << 5;
+
+	/**
+	 * {@link AppState#getReconnectTimer()}, {@link AppState#isReconnecting()} and {@link AppState#isWaitingForNetwork()}
+	 */
+	public static final int RECONNECT_TIMER = 1 << 6;
+
+	/**
+	 * {@link AppState#getShowContacts()}
+	 */
+	public static final int SHOW_CONTACTS = 1 << 7;
+
+	/**
+	 * {@link AppState#getStatus()}
+	 */
+	public static final int STATUS = 1 << 8;
+
+	/**
+	 * {@link AppState#getStatusMessage()}
+	 */
+	public static final int STATUS_MESSAGE = 1 << 9;
+
+	/**
+	 * {@link AppState#isAutoRunEnabled()}
+	 */
+	public static final int AUTO_RUN = 1 << 10;
+
+	/**
+	 * {@link AppState#isChannelAutoConnectEnabled()}
+	 */
+	public static final int AUTO_CHANNELS = 1 << 11;
+
+	/**
+	 * {@link AppState#getNetwork()}, {@link AppState#getNetworkUrl()} and {@link AppState#getUsername()}
+	 */
+	public static final int NETWORK = 1 << 12;
+
+	/**
+	 * {@link AppState#getLastError()}
+	 */
+	public static final int LAST_ERROR = 1 << 13;
+
+	/**
+	 * {@link AppState#getExternalId()}
+	 */
+	public static final int EXTERNAL_ID = 1 << 14;
+
+	/**
+	 * {@link Zello#isLastMessageReplayAvailable()}
+	 */
+	public static final int LAST_MESSAGE_REPLAY = 1 << 15;
+
+	/**
+	 * All parts of the <code>AppState</code>.
+	 * The first change reported after the SDK connects to the Zello Work app has all parts set.
+	 */
+	public static final int ALL = (1 << 16) - 1;
+
+	//endregion
+
+	//region Private Properties
+
+	private final int _mask;
+	private final @NonNull AppState _state;
+
+	//endregion
+
+	//region Package Private Methods
+
+	AppStateChange(int mask, @NonNull AppState state) {
+		_mask = mask;
+		_state = state;
+	}
+
+	static int compute(@NonNull AppState a, @NonNull AppState b) {
+		int mask = 0;
+		if (a.isAvailable() != b.isAvailable()) {
+			mask |= AVAILABLE;
+		}
+		if (a._initializing != b._initializing) {
+			mask |= INITIALIZING;
+		}
+		if (a._customBuild != b._customBuild) {
+			mask |= CUSTOM_BUILD;
+		}
+		if (a._configuring != b._configuring) {
+			mask |= CONFIGURING;
+		}
+		if (a._locked != b._locked) {
+			mask |= LOCKED;
+		}
+		if (a._signedIn != b._signedIn || a._signingIn != b._signingIn || a._signingOut != b._signingOut || a._cancelling != b._cancelling) {
+			mask |= SIGNED_IN;
+		}
+		if (a._reconnectTimer != b._reconnectTimer || a._waitingForNetwork != b._waitingForNetwork) {
+			mask |= RECONNECT_TIMER;
+		}
+		if (a._showContacts != b._showContacts) {
+			mask |= SHOW_CONTACTS;
+		}
+		if (a._busy != b._busy || a._solo != b._solo) {
+			mask |= STATUS;
+		}
+		if (!Objects.equals(a._statusMessage, b._statusMessage)) {
+			mask |= STATUS_MESSAGE;
+		}
+		if (a._autoRun != b._autoRun) {
+			mask |= AUTO_RUN;
+		}
+		if (a._autoChannels != b._autoChannels) {
+			mask |= AUTO_CHANNELS;
+		}
+		if (!Objects.equals(a._network, b._network) || !Objects.equals(a._networkUrl, b._networkUrl) || !Objects.equals(a._username, b._username)) {
+			mask |= NETWORK;
+		}
+		if (a._lastError != b._lastError) {
+			mask |= LAST_ERROR;
+		}
+		if (!Objects.equals(a._externalId, b._externalId)) {
+			mask |= EXTERNAL_ID;
+		}
+		return mask;
+	}
+
+	//endregion
+
+	//region Public Methods
+
+	/**
+	 * Returns the mask of the changed parts.
+	 *
+	 * @return Combination of the constants of this class.
+	 */
+	public int getMask() {
+		return _mask;
+	}
+
+	/**
+	 * Determines if any of the specified parts has changed.
+	 *
+	 * @param parts One or more constants of this class combined with <code>|</code>.
+	 * @return boolean indicating that at least one of the parts has changed.
+	 */
+	public boolean has(int parts) {
+		return (_mask & parts) != 0;
+	}
+
+	/**
+	 * Returns the <code>AppState</code> as it was after the change.
+	 * <p>
+	 * Unlike {@link Zello#getAppState(AppState)}, this method can be used from any thread, so listeners that run on an executor
+	 * don't need to read the state on the UI thread. The object is shared between listeners
+	 * and is read only, use {@link AppState#clone()} to get a copy that can be modified.
+	 * </p>
+	 *
+	 * @return Snapshot of the <code>AppState</code>.
+	 */
+	public @NonNull AppState getAppState() {
+		return _state;
+	}
+
+	//endregion
+
+}
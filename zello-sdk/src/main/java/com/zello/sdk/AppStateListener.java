@@ -0,0 +1,26 @@
+package com.zello.sdk;
+
+import androidx.annotation.NonNull;
+
+/**
+ * The <code>AppStateListener</code> interface receives changes of the {@link AppState}.
+ *
+ * @see Zello#addListener(ZelloListener)
+ */
+@SuppressWarnings("unused")
+public interface AppStateListener extends ZelloListener {
+
+	/**
+	 * <p>
+	 * Called when the {@link AppState} changes.
+	 * </p>
+	 * <p>
+	 * This method is invoked on the UI thread, only when at least one part of the <code>AppState</code> has changed.
+	 * </p>
+	 *
+	 * @param change The parts of the <code>AppState</code> that have changed.
+	 * @see Zello#getAppState(AppState)
+	 */
+	void onAppStateChanged(@NonNull AppStateChange change);
+
+}
@@ -29,23 +29,27 @@ public class Audio {
 	private @Nullable BroadcastReceiver _receiver;
 	private @Nullable Context _context;
 	private final @Nullable String _package;
+	private final @Nullable Sdk _sdk; // Delivers commands to the connected app
 
 	//endregion
 
 	//region Package Private Methods
 
-	Audio(@Nullable String packageName, @Nullable Context context) {
+	Audio(@Nullable String packageName, @Nullable Context context, @Nullable Sdk sdk) {
 		_package = packageName;
 		_context = context;
+		_sdk = sdk;
 		if (context != null && packageName != null) {
+			if (sdk != null) {
+				// Audio state broadcasts are received by the SDK
+				updateAudioState(Sdk.getStickyBroadcast(context, packageName + "." + Constants.ACTION_AUDIO_STATE));
+				publishState();
+				return;
+			}
 			_receiver = new BroadcastReceiver() {
 				@Override
 				public void onReceive(Context context, Intent intent) {
-					updateAudioState(intent);
-
-					for (Events event : Zello.getInstance().events) {
-						event.onAudioStateChanged();
-					}
+					handleAudioState(intent);
 				}
 			};
 			IntentFilter filter = new IntentFilter(packageName + "." + Constants.ACTION_AUDIO_STATE);
@@ -54,6 +58,45 @@ public class Audio {
 		}
 	}
 
+	/**
+	 * Create a snapshot of the state of another instance. The snapshot doesn't receive updates but can still change the mode.
+	 */
+	Audio(@NonNull Audio audio) {
+		_sp = audio._sp;
+		_ep = audio._ep;
+		_bt = audio._bt;
+		_wearables = audio._wearables;
+		_changing = audio._changing;
+		_mode = audio._mode;
+		_context = audio._context;
+		_package = audio._package;
+		_sdk = audio._sdk;
+	}
+
+	boolean sameAs(@NonNull Audio audio) {
+		return _sp == audio._sp && _ep == audio._ep && _bt == audio._bt && _wearables == audio._wearables
+				&& _changing == audio._changing && _mode == audio._mode;
+	}
+
+	void handleAudioState(@Nullable Intent intent) {
+		parseAudioState(intent).run();
+	}
+
+	/**
+	 * Read an audio state broadcast; the returned runnable applies the state and notifies the listeners.
+	 */
+	@NonNull Runnable parseAudioState(@Nullable Intent intent) {
+		Runnable update = readAudioState(intent);
+		return () -> {
+			if (update != null) {
+				update.run();
+			}
+			publishState();
+
+			Zello.getInstance().events.fireAudioStateChanged();
+		};
+	}
+
 	void close() {
 		Context context = _context;
 		if (context != null && _receiver != null) {
@@ -156,27 +199,56 @@ public class Audio {
 			default -> Constants.EXTRA_SP;
 		};
 		intent.putExtra(Constants.EXTRA_MODE, command);
-		context.sendBroadcast(intent);
+		Sdk sdk = _sdk;
+		if (sdk != null) {
+			sdk.sendCommand(context, intent);
+		} else {
+			context.sendBroadcast(intent);
+		}
+	}
+
+	private void publishState() {
+		if (_sdk != null) {
+			Zello.getInstance().audioStates.publish(new Audio(this));
+		}
 	}
 
 	private void updateAudioState(@Nullable Intent intent) {
+		Runnable update = readAudioState(intent);
+		if (update != null) {
+			update.run();
+		}
+	}
+
+	/**
+	 * Read the extras of an audio state broadcast; the returned runnable applies them.
+	 */
+	private @Nullable Runnable readAudioState(@Nullable Intent intent) {
 		if (intent == null) {
-			return;
+			return null;
 		}
-		String mode = Util.emptyIfNull(intent.getStringExtra(Constants.EXTRA_MODE));
-		if (mode.startsWith(Constants.EXTRA_WA)) {
-			_mode = AudioMode.WEARABLE;
-		} else if (mode.equals(Constants.EXTRA_EP)) {
-			_mode = AudioMode.EARPIECE;
-		} else if (mode.equals(Constants.EXTRA_BT)) {
-			_mode = AudioMode.BLUETOOTH;
+		String extra = Util.emptyIfNull(intent.getStringExtra(Constants.EXTRA_MODE));
+		AudioMode mode;
+		if (extra.startsWith(Constants.EXTRA_WA)) {
+			mode = AudioMode.WEARABLE;
+		} else if (extra.equals(Constants.EXTRA_EP)) {
+			mode = AudioMode.EARPIECE;
+		} else if (extra.equals(Constants.EXTRA_BT)) {
+			mode = AudioMode.BLUETOOTH;
 		} else {
-			_mode = AudioMode.SPEAKER;
+			mode = AudioMode.SPEAKER;
 		}
-		_sp = intent.getBooleanExtra(Constants.EXTRA_SP, true);
-		_ep = intent.getBooleanExtra(Constants.EXTRA_EP, false);
-		_bt = intent.getBooleanExtra(Constants.EXTRA_BT, false);
-		_wearables = intent.getIntExtra(Constants.EXTRA_WA, 0);
+		boolean sp = intent.getBooleanExtra(Constants.EXTRA_SP, true);
+		boolean ep = intent.getBooleanExtra(Constants.EXTRA_EP, false);
+		boolean bt = intent.getBooleanExtra(Constants.EXTRA_BT, false);
+		int wearables = intent.getIntExtra(Constants.EXTRA_WA, 0);
+		return () -> {
+			_mode = mode;
+			_sp = sp;
+			_ep = ep;
+			_bt = bt;
+			_wearables = wearables;
+		};
 	}
 
 	//endregion
@@ -0,0 +1,23 @@
+package com.zello.sdk;
+
+/**
+ * The <code>AudioStateListener</code> interface receives changes of the {@link Audio} state.
+ *
+ * @see Zello#addListener(ZelloListener)
+ */
+@SuppressWarnings("unused")
+public interface AudioStateListener extends ZelloListener {
+
+	/**
+	 * <p>
+	 * Called when the the state of the {@link Audio} changes.
+	 * </p>
+	 * <p>
+	 * This method is invoked on the UI thread.
+	 * </p>
+	 *
+	 * @see Zello#getAudio()
+	 */
+	void onAudioStateChanged();
+
+}
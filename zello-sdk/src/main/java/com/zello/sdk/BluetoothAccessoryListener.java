@@ -0,0 +1,28 @@
+package com.zello.sdk;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+/**
+ * The <code>BluetoothAccessoryListener</code> interface receives changes of the Bluetooth accessories' connection state.
+ *
+ * @see Zello#addListener(ZelloListener)
+ */
+@SuppressWarnings("unused")
+public interface BluetoothAccessoryListener extends ZelloListener {
+
+	/**
+	 * <p>
+	 * Called when a Bluetooth accessory connection state changes.
+	 * </p>
+	 *
+	 * @param type        Type of the device.
+	 * @param state       New state of the device.
+	 * @param name        Name of the device.
+	 * @param description A description of the event that can be shown to the user.
+	 */
+	void onBluetoothAccessoryStateChanged(
+			@NonNull BluetoothAccessoryType type, @NonNull BluetoothAccessoryState state,
+			@Nullable String name, @Nullable String description);
+
+}
@@ -0,0 +1,213 @@
+package com.zello.sdk;
+
+import android.content.Intent;
+
+import java.util.ArrayList;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+/**
+ * <p>
+ * The <code>CommandBatch</code> class collects commands that are delivered to the Zello Work app in a single call.
+ * </p>
+ * <p>
+ * Each method has the same effect as the <code>Zello</code> method of the same name. When the Zello Work app supports batches,
+ * the commands are sent in one transaction; otherwise they are sent one by one. Either way, the commands are applied in the order
+ * they were added.
+ * </p>
+ * <p>
+ * Only the commands added through the batch are collected; commands sent by other means while the builder runs,
+ * for example from event handlers, are sent right away.
+ * </p>
+ * <p>
+ * To use, add the commands in the builder passed to {@link Zello#batch(CommandBatchBuilder)}:
+ * </p>
+ * <pre>
+ * Zello.getInstance().batch(b -&gt; b.setAutoRun(false).setAutoConnectChannels(false).setExternalId(id));
+ * </pre>
+ */
+@SuppressWarnings({"WeakerAccess", "unused"})
+public class CommandBatch {
+
+	//region Private Properties
+
+	private final @NonNull Sdk _sdk;
+	private final @NonNull ArrayList<Intent> _commands = new ArrayList<>();
+
+	//endregion
+
+	//region Package Private Methods
+
+	CommandBatch(@NonNull Sdk sdk) {
+		_sdk = sdk;
+	}
+
+	@NonNull ArrayList<Intent> getCommands() {
+		return _commands;
+	}
+
+	//endregion
+
+	//region Public Methods
+
+	/**
+	 * Adds a command that connects the user to a channel.
+	 *
+	 * @param channel The name of the channel to connect to.
+	 * @return This batch.
+	 * @see Zello#connectChannel(String)
+	 */
+	public @NonNull CommandBatch connectChannel(@Nullable String channel) {
+		_sdk.capture(_commands, () -> _sdk.connectChannel(channel));
+		return this;
+	}
+
+	/**
+	 * Adds a command that disconnects the user from a channel.
+	 *
+	 * @param channel The name of the channel to disconnect from.
+	 * @return This batch.
+	 * @see Zello#disconnectChannel(String)
+	 */
+	public @NonNull CommandBatch disconnectChannel(@Nullable String channel) {
+		_sdk.capture(_commands, () -> _sdk.disconnectChannel(channel));
+		return this;
+	}
+
+	/**
+	 * Adds a command that mutes or unmutes a contact.
+	 *
+	 * @param contact The contact to mute or unmute.
+	 * @param mute Whether the contact should be muted or not.
+	 * @return This batch.
+	 * @see Zello#muteContact(Contact, boolean)
+	 */
+	public @NonNull CommandBatch muteContact(@Nullable Contact contact, boolean mute) {
+		_sdk.capture(_commands, () -> _sdk.muteContact(contact, mute));
+		return this;
+	}
+
+	/**
+	 * Adds a command that sets the current user's status.
+	 *
+	 * @param status The status to set.
+	 * @return This batch.
+	 * @see Zello#setStatus(Status)
+	 */
+	public @NonNull CommandBatch setStatus(@NonNull Status status) {
+		_sdk.capture(_commands, () -> _sdk.setStatus(status));
+		return this;
+	}
+
+	/**
+	 * Adds a command that sets the current user's status message.
+	 *
+	 * @param message Nullable; The custom status message.
+	 * @return This batch.
+	 * @see Zello#setStatusMessage(String)
+	 */
+	public @NonNull CommandBatch setStatusMessage(@Nullable String message) {
+		_sdk.capture(_commands, () -> _sdk.setStatusMessage(message));
+		return this;
+	}
+
+	/**
+	 * Adds a command that specifies whether the Zello Work app should be launched on the start of the OS.
+	 *
+	 * @param enable The boolean to enable this feature or not.
+	 * @return This batch.
+	 * @see Zello#setAutoRun(boolean)
+	 */
+	public @NonNull CommandBatch setAutoRun(boolean enable) {
+		_sdk.capture(_commands, () -> _sdk.setAutoRun(enable));
+		return this;
+	}
+
+	/**
+	 * Adds a command that specifies whether newly added channels should connect automatically.
+	 *
+	 * @param connect Enables autoconnect.
+	 * @return This batch.
+	 * @see Zello#setAutoConnectChannels(boolean)
+	 */
+	public @NonNull CommandBatch setAutoConnectChannels(boolean connect) {
+		_sdk.capture(_commands, () -> _sdk.setAutoConnectChannels(connect));
+		return this;
+	}
+
+	/**
+	 * Adds a command that sets the external id tag used by Zello Work Server Recording.
+	 *
+	 * @param id Nullable; String indicating the external id.
+	 * @return This batch.
+	 * @see Zello#setExternalId(String)
+	 */
+	public @NonNull CommandBatch setExternalId(@Nullable String id) {
+		_sdk.capture(_commands, () -> _sdk.setExternalId(id));
+		return this;
+	}
+
+	/**
+	 * Adds a command that selects a contact to send messages to.
+	 *
+	 * @param contact Nullable; a contact to select. A null value deselects the current contact.
+	 * @return This batch.
+	 * @see Zello#setSelectedContact(Contact)
+	 */
+	public @NonNull CommandBatch setSelectedContact(@Nullable Contact contact) {
+		_sdk.capture(_commands, () -> _sdk.setSelectedContact(contact));
+		return this;
+	}
+
+	/**
+	 * Adds a command that selects a user or gateway to send messages to.
+	 *
+	 * @param name Nullable; The name of the user or gateway to select. A null value deselects the current contact.
+	 * @return This batch.
+	 * @see Zello#setSelectedUserOrGateway(String)
+	 */
+	public @NonNull CommandBatch setSelectedUserOrGateway(@Nullable String name) {
+		_sdk.capture(_commands, () -> _sdk.setSelectedUserOrGateway(name));
+		return this;
+	}
+
+	/**
+	 * Adds a command that selects a channel or group to send messages to.
+	 *
+	 * @param name Nullable; The name of the channel or group to select. A null value deselects the current contact.
+	 * @return This batch.
+	 * @see Zello#setSelectedChannelOrGroup(String)
+	 */
+	public @NonNull CommandBatch setSelectedChannelOrGroup(@Nullable String name) {
+		_sdk.capture(_commands, () -> _sdk.setSelectedChannelOrGroup(name));
+		return this;
+	}
+
+	/**
+	 * Adds a command that asks the host app to show or suppress notifications about Bluetooth PTT buttons.
+	 *
+	 * @param show Show Bluetooth PTT buttons' related notifications.
+	 * @return This batch.
+	 * @see Zello#setShowBluetoothAccessoriesNotifications(boolean)
+	 */
+	public @NonNull CommandBatch setShowBluetoothAccessoriesNotifications(boolean show) {
+		_sdk.capture(_commands, () -> _sdk.setShowBluetoothAccessoriesNotifications(show));
+		return this;
+	}
+
+	/**
+	 * Adds a command that tells the host app whether it needs to handle the headset hook events.
+	 *
+	 * @param active True when the headset object is handling the events
+	 * @return This batch.
+	 * @see Zello#setHeadsetActive(boolean)
+	 */
+	public @NonNull CommandBatch setHeadsetActive(boolean active) {
+		_sdk.capture(_commands, () -> _sdk.setHeadsetActive(active));
+		return this;
+	}
+
+	//endregion
+
+}
@@ -0,0 +1,26 @@
+package com.zello.sdk;
+
+import androidx.annotation.NonNull;
+
+/**
+ * The <code>CommandBatchBuilder</code> interface adds commands to a batch that is delivered to the Zello Work app at once.
+ *
+ * @see Zello#batch(CommandBatchBuilder)
+ */
+@SuppressWarnings("unused")
+public interface CommandBatchBuilder {
+
+	/**
+	 * <p>
+	 * Called to add commands to the batch.
+	 * </p>
+	 * <p>
+	 * This method is invoked synchronously on the thread that called {@link Zello#batch(CommandBatchBuilder)}.
+	 * The batch can't be used after this method returns.
+	 * </p>
+	 *
+	 * @param batch The batch to add the commands to.
+	 */
+	void build(@NonNull CommandBatch batch);
+
+}
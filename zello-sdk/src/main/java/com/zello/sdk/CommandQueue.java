@@ -0,0 +1,134 @@
+package com.zello.sdk;
+
+import android.content.Intent;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+/**
+ * <p>
+ * Commands issued while the Zello Work app service is not connected yet, replayed in order once it connects.
+ * </p>
+ * <p>
+ * Commands that configure the same setting supersede each other: only the last one is kept, at the position where it was issued.
+ * Transient commands, such as the start or the end of a message, are meaningless later and are never queued.
+ * When the queue is full, the oldest command is dropped.
+ * </p>
+ */
+class CommandQueue {
+
+	static final int DEFAULT_CAPACITY = 32;
+
+	private final int _capacity;
+	private final @NonNull ArrayList<Intent> _commands = new ArrayList<>();
+	private final @NonNull ArrayList<String> _keys = new ArrayList<>(); // Null for commands that never supersede each other
+
+	CommandQueue(int capacity) {
+		_capacity = Math.max(1, capacity);
+	}
+
+	/**
+	 * Add a command to the end of the queue.
+	 *
+	 * @return false if the command is transient and was not queued.
+	 */
+	synchronized boolean add(@NonNull Intent intent) {
+		String command = intent.getStringExtra(Constants.EXTRA_COMMAND);
+		if (isTransient(command)) {
+			return false;
+		}
+		String key = getKey(command, intent);
+		if (key != null) {
+			int index = _keys.indexOf(key);
+			if (index >= 0) {
+				_commands.remove(index);
+				_keys.remove(index);
+			}
+		}
+		if (_commands.size() >= _capacity) {
+			Log.INSTANCE.e("Command queue is full, dropping " + _commands.get(0).getStringExtra(Constants.EXTRA_COMMAND), null);
+			_commands.remove(0);
+			_keys.remove(0);
+		}
+		_commands.add(intent);
+		_keys.add(key);
+		return true;
+	}
+
+	/**
+	 * Remove all queued commands of a type.
+	 */
+	synchronized void remove(@NonNull String command) {
+		Iterator<Intent> commands = _commands.iterator();
+		Iterator<String> keys = _keys.iterator();
+		while (commands.hasNext()) {
+			keys.next();
+			if (command.equals(commands.next().getStringExtra(Constants.EXTRA_COMMAND))) {
+				commands.remove();
+				keys.remove();
+			}
+		}
+	}
+
+	/**
+	 * Remove all queued commands.
+	 */
+	synchronized void clear() {
+		_commands.clear();
+		_keys.clear();
+	}
+
+	/**
+	 * Remove and return all queued commands in the order they were issued.
+	 */
+	synchronized @NonNull ArrayList<Intent> drain() {
+		ArrayList<Intent> commands = new ArrayList<>(_commands);
+		_commands.clear();
+		_keys.clear();
+		return commands;
+	}
+
+	private static boolean isTransient(@Nullable String command) {
+		return command == null
+				|| command.equals(Constants.VALUE_BEGIN_MESSAGE)
+				|| command.equals(Constants.VALUE_END_MESSAGE)
+				|| command.equals(Constants.VALUE_REPLAY_MESSAGE)
+				|| command.equals(Constants.VALUE_STAY_AWAKE);
+	}
+
+	/**
+	 * Get the setting that a command configures; commands with the same key supersede each other.
+	 */
+	private static @Nullable String getKey(@NonNull String command, @NonNull Intent intent) {
+		switch (command) {
+			case Constants.VALUE_SET_STATUS:
+				// Status and status message are set separately
+				return intent.hasExtra(Constants.EXTRA_STATE_STATUS_MESSAGE) ? command + ":message" : command;
+			case Constants.VALUE_CONNECT:
+			case Constants.VALUE_DISCONNECT:
+				return Constants.VALUE_CONNECT + ":" + intent.getStringExtra(Constants.EXTRA_CONTACT_NAME);
+			case Constants.VALUE_MUTE:
+			case Constants.VALUE_UNMUTE:
+				return Constants.VALUE_MUTE + ":" + intent.getIntExtra(Constants.EXTRA_CONTACT_TYPE, 0) + ":" + intent.getStringExtra(Constants.EXTRA_CONTACT_NAME);
+			case Constants.VALUE_SIGN_IN:
+			case Constants.VALUE_SIGN_OUT:
+			case Constants.VALUE_CANCEL:
+				return Constants.VALUE_SIGN_IN;
+			case Constants.VALUE_SELECT_CONTACT:
+			case Constants.VALUE_LOCK:
+			case Constants.VALUE_SET_AUTO_RUN:
+			case Constants.VALUE_SET_AUTO_CHANNELS:
+			case Constants.VALUE_SET_EID:
+			case Constants.VALUE_SET_SHOW_BT_ACCESSORIES_NOTIFICATIONS:
+			case Constants.VALUE_SET_AUDIO:
+			case Constants.VALUE_SET_HEADSET_ACTIVE:
+				return command;
+			default:
+				return null;
+		}
+	}
+
+}
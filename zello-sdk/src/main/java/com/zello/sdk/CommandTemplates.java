@@ -0,0 +1,53 @@
+package com.zello.sdk;
+
+import android.content.Intent;
+import android.os.Bundle;
+
+import androidx.annotation.NonNull;
+
+/**
+ * <p>
+ * Command action and prebuilt commands of the app that the SDK is connected to.
+ * Built once per connection so that sending frequent commands, such as starting and ending messages, doesn't allocate.
+ * </p>
+ * <p>
+ * The prebuilt intents and extras are shared by all threads that send commands and must never be modified after construction.
+ * The SDK only reads them: message commands are transient, so they are never queued and never get their action replaced
+ * on replay, and batches copy the extras out of the intents. Sending a command through the messenger only parcels the extras.
+ * Sending it as a broadcast also lets the platform prepare the intent to leave the process, which only clears the flag that
+ * allows file descriptors in the extras, always to the same value.
+ * </p>
+ */
+class CommandTemplates {
+
+	public final @NonNull String packageName;
+
+	public final @NonNull String action;
+
+	public final @NonNull Intent beginMessage;
+	public final @NonNull Bundle beginMessageExtras;
+
+	public final @NonNull Intent endMessage;
+	public final @NonNull Bundle endMessageExtras;
+
+	CommandTemplates(@NonNull String packageName) {
+		this.packageName = packageName;
+		action = packageName + "." + Constants.ACTION_COMMAND;
+		beginMessage = create(action, Constants.VALUE_BEGIN_MESSAGE);
+		beginMessageExtras = getExtras(beginMessage);
+		endMessage = create(action, Constants.VALUE_END_MESSAGE);
+		endMessageExtras = getExtras(endMessage);
+	}
+
+	private static @NonNull Intent create(@NonNull String action, @NonNull String command) {
+		Intent intent = new Intent(action);
+		intent.putExtra(Constants.EXTRA_COMMAND, command);
+		return intent;
+	}
+
+	private static @NonNull Bundle getExtras(@NonNull Intent intent) {
+		Bundle extras = intent.getExtras();
+		return extras != null ? extras : new Bundle();
+	}
+
+}
@@ -10,6 +10,7 @@ public class Constants {
 	public static final String EXTRA_CALLBACK = "CALLBACK";
 	public static final String EXTRA_THEME = "THEME";
 	public static final String EXTRA_COMMAND = "COMMAND";
+	public static final String EXTRA_COMMANDS = "COMMANDS";
 	public static final String EXTRA_STATE_CUSTOM_BUILD = "STATE_CUSTOM_BUILD";
 	public static final String EXTRA_STATE_CONFIGURING = "STATE_CONFIGURING";
 	public static final String EXTRA_STATE_LOCKED = "STATE_LOCKED";
@@ -105,6 +106,13 @@ public class Constants {
 	public static final String VALUE_RECENTS = "RECENTS";
 	public static final String VALUE_SET_AUDIO = "SET_AUDIO";
 	public static final String VALUE_SET_HEADSET_ACTIVE = "SET_HEADSET_ACTIVE";
+	public static final String VALUE_BATCH = "BATCH";
+
+	public static final String META_DATA_COMMANDS_VERSION = "com.zello.SDK.commands";
+	public static final String MESSENGER_DESCRIPTOR = "android.os.IMessenger";
+	public static final int COMMANDS_VERSION = 1;
+	public static final int COMMANDS_VERSION_BATCH = 2;
+	public static final int MESSAGE_COMMAND = 1;
 
 	public static final String ACTION_COMMAND = "COMMAND";
 	public static final String ACTION_APP_STATE = "APP_STATE";
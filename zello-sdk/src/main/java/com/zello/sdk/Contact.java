@@ -1,5 +1,7 @@
 package com.zello.sdk;
 
+import java.util.Objects;
+
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 
@@ -23,6 +25,7 @@ public class Contact {
 	@Nullable String _title;
 	boolean _muted;
 	boolean _noDisconnect;
+	boolean _readOnly; // Shared instance published by the SDK; not copied
 
 	//endregion
 
@@ -33,8 +36,11 @@ public class Contact {
 	 * <p>
 	 *     This method only resets the values for this copied instance of the <code>Contact</code>.
 	 * </p>
+	 *
+	 * @throws UnsupportedOperationException if the instance is shared by the SDK, for example one returned by {@link ZelloState}.
 	 */
 	public void reset() {
+		checkWritable();
 		_name = null;
 		_fullName = null;
 		_displayName = null;
@@ -187,10 +193,27 @@ public class Contact {
 
 	//region Package Private Methods
 
+	/**
+	 * Make the instance read only before it's shared with the app.
+	 */
+	void setReadOnly() {
+		_readOnly = true;
+	}
+
+	/**
+	 * Make sure that the instance isn't shared by the SDK before it's modified.
+	 */
+	void checkWritable() {
+		if (_readOnly) {
+			throw new UnsupportedOperationException("The state published by the SDK is shared; use clone() to get a copy that can be modified");
+		}
+	}
+
 	void copyTo(Contact contact) {
 		if (contact == null) {
 			return;
 		}
+		contact.checkWritable();
 		contact._name = _name;
 		contact._fullName = _fullName;
 		contact._displayName = _displayName;
@@ -204,6 +227,20 @@ public class Contact {
 		contact._noDisconnect = _noDisconnect;
 	}
 
+	boolean sameAs(@NonNull Contact contact) {
+		return Objects.equals(_name, contact._name)
+				&& Objects.equals(_fullName, contact._fullName)
+				&& Objects.equals(_displayName, contact._displayName)
+				&& _type == contact._type
+				&& _status == contact._status
+				&& Objects.equals(_statusMessage, contact._statusMessage)
+				&& _usersCount == contact._usersCount
+				&& _usersTotal == contact._usersTotal
+				&& Objects.equals(_title, contact._title)
+				&& _muted == contact._muted
+				&& _noDisconnect == contact._noDisconnect;
+	}
+
 	//endregion
 
 }
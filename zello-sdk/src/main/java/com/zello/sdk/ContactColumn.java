@@ -0,0 +1,53 @@
+package com.zello.sdk;
+
+/**
+ * The <code>ContactColumn</code> enum represents the optional properties of a {@link Contact} that can be requested by a {@link ContactsQuery}.
+ * <p>
+ * The name, type and status of a contact are always available.
+ * </p>
+ */
+@SuppressWarnings({"WeakerAccess", "unused"})
+public enum ContactColumn {
+
+	/**
+	 * Full name of the contact.
+	 * @see Contact#getFullName()
+	 */
+	FULL_NAME,
+	/**
+	 * Display name of the contact.
+	 * @see Contact#getDisplayName()
+	 */
+	DISPLAY_NAME,
+	/**
+	 * Custom status message of a user or a gateway.
+	 * @see Contact#getStatusMessage()
+	 */
+	STATUS_MESSAGE,
+	/**
+	 * Number of online users of a channel, a group or a conversation.
+	 * @see Contact#getUsersCount()
+	 */
+	USERS_COUNT,
+	/**
+	 * Total number of users of a group or a conversation.
+	 * @see Contact#getUsersTotal()
+	 */
+	USERS_TOTAL,
+	/**
+	 * Title of the contact.
+	 * @see Contact#getTitle()
+	 */
+	TITLE,
+	/**
+	 * Muted state of the contact.
+	 * @see Contact#getMuted()
+	 */
+	MUTED,
+	/**
+	 * Whether a channel can be disconnected.
+	 * @see Contact#getNoDisconnect()
+	 */
+	NO_DISCONNECT
+
+}
@@ -0,0 +1,29 @@
+package com.zello.sdk;
+
+import androidx.annotation.NonNull;
+
+/**
+ * The <code>ContactVisitor</code> interface receives the contacts during a traversal of the contact list.
+ *
+ * @see Contacts#forEach(ContactVisitor)
+ * @see ContactsSnapshot#forEach(ContactVisitor)
+ */
+@SuppressWarnings("unused")
+public interface ContactVisitor {
+
+	/**
+	 * <p>
+	 * Called for each contact in the list order.
+	 * </p>
+	 * <p>
+	 * The same <code>Contact</code> instance is passed for every contact and is overwritten after this method returns.
+	 * Use {@link Contact#clone()} to keep a contact.
+	 * </p>
+	 *
+	 * @param index Index of the contact.
+	 * @param contact The contact.
+	 * @return true to continue the traversal or false to stop it.
+	 */
+	boolean visit(int index, @NonNull Contact contact);
+
+}
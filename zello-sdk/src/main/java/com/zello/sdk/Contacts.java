@@ -1,12 +1,25 @@
 package com.zello.sdk;
 
+import android.content.ContentResolver;
 import android.content.Context;
 import android.database.Cursor;
 import android.net.Uri;
 import android.os.Handler;
+import android.os.HandlerThread;
+import android.os.Process;
 
+import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+
 /**
  * <p>
  * The <code>Contacts</code> class represents the contacts of the current user.
@@ -35,10 +48,28 @@ public class Contacts {
 	private static final String _columnNoDisconnect = "nodisconnect";
 
 	private @Nullable ContactsObserver _observer;
-	private @Nullable Cursor _cursor;
+	private volatile @Nullable Cursor _cursor;
 	private @Nullable Context _context;
+	private final @Nullable String _packageName;
+	private final @Nullable Handler _handler; // UI thread handler
 	private final @Nullable Uri _uri;
-	private boolean _invalid;
+	private final @Nullable ContactsQuery _query; // Null when the whole contact list is loaded
+	private final @Nullable Contacts _parent; // Full list that this partial list belongs to
+	private final @NonNull Map<ContactsQuery, Contacts> _views = new HashMap<>(); // Partial lists sharing the change notifications of this list
+	private final @NonNull Object _loaderLock = new Object();
+	private @Nullable HandlerThread _loaderThread; // Background thread used to load snapshots, shared with the partial lists
+	private @Nullable Handler _loader;
+	private final @NonNull AtomicInteger _asyncLoads = new AtomicInteger(); // Pending getSnapshotAsync() loads; changes are prefetched while there are any
+	private volatile boolean _invalid; // Always set before the version is incremented
+	private @Nullable int[] _rows; // Cursor positions of the contacts that passed the client side filter, null when all of them did
+	private boolean _rowsReady;
+	private volatile long _version; // Incremented every time the contact list changes; only modified on the UI thread
+	private volatile @Nullable ContactsSnapshot _snapshot; // Lazily loaded copy of the current version
+	private volatile @Nullable ContactsCache _cache; // On-disk copy of the list of the current account
+	private @Nullable ContactsSnapshot _cached; // Snapshot restored from the cache
+	private boolean _accountSet; // The cache was requested for the account below; only used on the UI thread
+	private @Nullable String _accountNetwork;
+	private @Nullable String _accountUsername;
 	private int _indexName;
 	private int _indexFullName;
 	private int _indexDisplayName;
@@ -57,27 +88,150 @@ public class Contacts {
 
 	Contacts(@Nullable String packageName, @Nullable Context context, @Nullable Handler handler) {
 		_context = context;
+		_packageName = packageName;
+		_handler = handler;
 		_observer = ContactsObserver.create(this, handler);
 		_uri = Uri.parse("content://" + packageName + _authoritySuffix + _contactsPath);
+		_query = null;
+		_parent = null;
 		query();
 	}
 
+	private Contacts(@NonNull Contacts parent, @NonNull ContactsQuery query) {
+		_context = parent._context;
+		_packageName = parent._packageName;
+		_handler = parent._handler;
+		_uri = parent._uri;
+		_query = query;
+		_parent = parent;
+		_invalid = true; // Query on the first use
+	}
+
 	void close() {
 		_context = null;
-		clean();
+		synchronized (_loaderLock) {
+			HandlerThread thread = _loaderThread;
+			if (thread != null) {
+				thread.quitSafely();
+			}
+			_loaderThread = null;
+			_loader = null;
+		}
+		synchronized (this) {
+			clean();
+		}
 		ContactsObserver observer = _observer;
 		if (observer != null) {
 			observer.close();
 		}
 		_observer = null;
+		List<Contacts> views;
+		synchronized (_views) {
+			views = new ArrayList<>(_views.values());
+			_views.clear();
+		}
+		for (Contacts view : views) {
+			view.close();
+		}
+	}
+
+	/**
+	 * Get a partial contact list that is invalidated together with this one.
+	 */
+	@NonNull Contacts getView(@NonNull ContactsQuery query) {
+		if (query.isDefault()) {
+			return this;
+		}
+		synchronized (_views) {
+			Contacts view = _views.get(query);
+			if (view == null) {
+				query = query.copy();
+				view = new Contacts(this, query);
+				_views.put(query, view);
+			}
+			return view;
+		}
+	}
+
+	/**
+	 * Switch the cache to the account that is signed in to the Zello Work app; must be called on the UI thread.
+	 * The cache file is only resolved again when the account changes, and it's resolved on the loader thread
+	 * because that needs disk access.
+	 */
+	void setAccount(@Nullable String network, @Nullable String username) {
+		if (_accountSet && Objects.equals(_accountNetwork, network) && Objects.equals(_accountUsername, username)) {
+			return;
+		}
+		_accountSet = true;
+		_accountNetwork = network;
+		_accountUsername = username;
+		Context context = _context;
+		String packageName = _packageName;
+		Handler loader = getLoader();
+		if (context == null || packageName == null || loader == null) {
+			return;
+		}
+		// Don't serve or overwrite the list of the previous account until the new file is known
+		setCache(null);
+		loader.post(() -> setCache(ContactsCache.get(context, packageName, network, username)));
+	}
+
+	private void setCache(@Nullable ContactsCache cache) {
+		boolean served;
+		synchronized (this) {
+			ContactsCache current = _cache;
+			if (current == cache || (current != null && cache != null && current.getFile().equals(cache.getFile()))) {
+				return;
+			}
+			_cache = cache;
+			_cached = null;
+			// The loaded snapshot may come from the previous file
+			served = _snapshot != null && _cursor == null;
+			_snapshot = null;
+		}
+		Handler handler = _handler;
+		if (served && handler != null) {
+			// Let the listeners load the list of the new account
+			handler.post(() -> {
+				if (_context != null) {
+					invalidate();
+				}
+			});
+		}
+	}
+
+	boolean hasCursor() {
+		return _cursor != null;
+	}
+
+	/**
+	 * Get the snapshot of the current version if it was already loaded, without loading it.
+	 */
+	@Nullable ContactsSnapshot getLoadedSnapshot() {
+		ContactsSnapshot snapshot = _snapshot;
+		return snapshot != null && snapshot._version == _version && !snapshot._stale && !_invalid ? snapshot : null;
+	}
+
+	void setChangeCoalescing(int windowMs, int maxLatencyMs) {
+		ContactsObserver observer = _observer;
+		if (observer != null) {
+			observer.setCoalescing(windowMs, maxLatencyMs);
+		}
 	}
 
 	void invalidate() {
 		_invalid = true;
-
-		for (Events event : Zello.getInstance().events) {
-			event.onContactsChanged();
+		++_version;
+		prefetch();
+		synchronized (_views) {
+			for (Contacts view : _views.values()) {
+				view._invalid = true;
+				++view._version;
+				view.prefetch();
+			}
 		}
+
+		Zello.getInstance().events.fireContactsChanged();
 	}
 
 	//endregion
@@ -96,12 +250,13 @@ public class Contacts {
 	 *
 	 * @return the number of contacts for the user.
 	 */
-	public int getCount() {
+	public synchronized int getCount() {
 		check();
 		Cursor cursor = _cursor;
 		if (cursor != null) {
 			try {
-				return cursor.getCount();
+				int[] rows = getRows(cursor);
+				return rows != null ? rows.length : cursor.getCount();
 			} catch (Throwable t) {
 				Log.INSTANCE.e("Error in Contacts.getCount", t);
 			}
@@ -119,47 +274,273 @@ public class Contacts {
 	 *
 	 * @param index Index indicating which <code>Contact</code> to retrieve.
 	 * @return <code>Contact</code> at the specified index.
+	 * @see #getItem(int, Contact)
 	 */
 	public @Nullable Contact getItem(int index) {
+		Contact contact = new Contact();
+		return getItem(index, contact) ? contact : null;
+	}
+
+	/**
+	 * <p>
+	 * Reads the <code>Contact</code> at the specified index into an existing instance.
+	 * </p>
+	 * <p>
+	 * Reusing a single instance avoids allocating a new <code>Contact</code> for every row when going through the whole list.
+	 * </p>
+	 * <p>
+	 * NB: This method may take nontrivial time to execute, so do not call it from the UI thread.
+	 * </p>
+	 *
+	 * @param index Index indicating which <code>Contact</code> to retrieve.
+	 * @param contact Instance that receives the contact.
+	 * @return boolean indicating that the contact was read; when false, the contents of <code>contact</code> are undefined.
+	 * @see #forEach(ContactVisitor)
+	 */
+	public synchronized boolean getItem(int index, @NonNull Contact contact) {
 		check();
 		Cursor cursor = _cursor;
 		if (cursor == null) {
-			return null;
+			return false;
 		}
-		cursor.moveToPosition(index);
-		Contact contact = new Contact();
 		try {
-			contact._name = cursor.getString(_indexName);
-			contact._fullName = cursor.getString(_indexFullName);
-			contact._displayName = cursor.getString(_indexDisplayName);
-			contact._type = Sdk.intToContactType(cursor.getInt(_indexType));
-			contact._status = Sdk.intToContactStatus(cursor.getInt(_indexStatus));
-			contact._title = cursor.getString(_indexTitle);
-			contact._muted = cursor.getInt(_indexMuted) != 0;
-			switch (contact._type) {
-				case USER:
-				case GATEWAY: {
-					contact._statusMessage = cursor.getString(_indexStatusMessage);
-					break;
+			int[] rows = getRows(cursor);
+			if (rows != null) {
+				if (index < 0 || index >= rows.length) {
+					return false;
 				}
-				case CHANNEL: {
-					contact._usersCount = cursor.getInt(_indexUsersCount);
-					break;
-				}
-				case GROUP:
-				case CONVERSATION: {
-					contact._usersCount = cursor.getInt(_indexUsersCount);
-					contact._usersTotal = cursor.getInt(_indexUsersTotal);
+				index = rows[index];
+			}
+			if (!cursor.moveToPosition(index)) {
+				return false;
+			}
+			read(cursor, contact);
+			return true;
+		} catch (Throwable t) {
+			Log.INSTANCE.e("Error in Contacts.getItem", t);
+		}
+		return false;
+	}
+
+	/**
+	 * <p>
+	 * Goes through the contacts in a single sequential pass.
+	 * </p>
+	 * <p>
+	 * A single <code>Contact</code> instance is reused for all contacts, so the traversal produces no garbage per contact
+	 * other than the strings returned by the Zello Work app.
+	 * This is the fastest way to compute aggregates such as the number of online users.
+	 * </p>
+	 * <p>
+	 * NB: This method may take nontrivial time to execute, so do not call it from the UI thread.
+	 * Use {@link ContactsSnapshot#forEach(ContactVisitor)} to go through an already loaded snapshot.
+	 * </p>
+	 *
+	 * @param visitor Visitor receiving the contacts.
+	 * @return The number of visited contacts.
+	 */
+	public synchronized int forEach(@NonNull ContactVisitor visitor) {
+		check();
+		Cursor cursor = _cursor;
+		if (cursor == null) {
+			return 0;
+		}
+		int index = 0;
+		try {
+			int[] rows = getRows(cursor);
+			int count = rows != null ? rows.length : cursor.getCount();
+			Contact contact = new Contact();
+			while (index < count && cursor.moveToPosition(rows != null ? rows[index] : index)) {
+				read(cursor, contact);
+				if (!visitor.visit(index++, contact)) {
 					break;
 				}
 			}
-			contact._noDisconnect = (contact._type != ContactType.CHANNEL && contact._type != ContactType.GROUP && contact._type != ContactType.CONVERSATION) ||
-					(_indexNoDisconnect >= 0 && cursor.getInt(_indexNoDisconnect) != 0);
-			return contact;
 		} catch (Throwable t) {
-			Log.INSTANCE.e("Error in Contacts.getItem", t);
+			Log.INSTANCE.e("Error in Contacts.forEach", t);
 		}
-		return null;
+		return index;
+	}
+
+	/**
+	 * <p>
+	 * Returns the <code>Contact</code> with the specified name and type.
+	 * </p>
+	 * <p>
+	 * The lookup is done using an index of the current {@link #getSnapshot() snapshot} and takes constant time.
+	 * </p>
+	 * <p>
+	 * NB: This method may take nontrivial time to execute the first time after the contact list changes, so do not call it from the UI thread.
+	 * </p>
+	 *
+	 * @param name Name of the contact.
+	 * @param type Type of the contact.
+	 * @return Nullable; The contact or null if the contact list doesn't contain such contact.
+	 * @see ContactsSnapshot#find(String, ContactType)
+	 */
+	public @Nullable Contact find(@Nullable String name, @NonNull ContactType type) {
+		return getSnapshot().find(name, type);
+	}
+
+	/**
+	 * <p>
+	 * Returns the index of the <code>Contact</code> with the specified name and type.
+	 * </p>
+	 * <p>
+	 * NB: This method may take nontrivial time to execute the first time after the contact list changes, so do not call it from the UI thread.
+	 * </p>
+	 *
+	 * @param name Name of the contact.
+	 * @param type Type of the contact.
+	 * @return Index of the contact or <code>-1</code> if the contact list doesn't contain such contact.
+	 * @see ContactsSnapshot#indexOf(String, ContactType)
+	 */
+	public int indexOf(@Nullable String name, @NonNull ContactType type) {
+		return getSnapshot().indexOf(name, type);
+	}
+
+	/**
+	 * <p>
+	 * Finds contacts whose name, full name or display name starts with the specified text, ignoring case.
+	 * </p>
+	 * <p>
+	 * NB: This method may take nontrivial time to execute the first time after the contact list changes, so do not call it from the UI thread.
+	 * To search as the user types, get the {@link #getSnapshot() snapshot} once in a background thread
+	 * and use {@link ContactsSnapshot#searchPrefix(String, int)}.
+	 * </p>
+	 *
+	 * @param query Text to search for. An empty query matches all contacts.
+	 * @param limit Maximum number of returned indexes.
+	 * @return Ascending indexes of the matching contacts in the current snapshot.
+	 * @see #search(String, int)
+	 */
+	public @NonNull int[] searchPrefix(@Nullable String query, int limit) {
+		return getSnapshot().searchPrefix(query, limit);
+	}
+
+	/**
+	 * <p>
+	 * Finds contacts whose name, full name or display name contains the specified text, ignoring case.
+	 * </p>
+	 * <p>
+	 * NB: This method may take nontrivial time to execute the first time after the contact list changes, so do not call it from the UI thread.
+	 * To search as the user types, get the {@link #getSnapshot() snapshot} once in a background thread
+	 * and use {@link ContactsSnapshot#search(String, int)}.
+	 * </p>
+	 *
+	 * @param query Text to search for. An empty query matches all contacts.
+	 * @param limit Maximum number of returned indexes.
+	 * @return Ascending indexes of the matching contacts in the current snapshot.
+	 * @see #searchPrefix(String, int)
+	 */
+	public @NonNull int[] search(@Nullable String query, int limit) {
+		return getSnapshot().search(query, limit);
+	}
+
+	/**
+	 * <p>
+	 * Returns the current contacts sorted and grouped in the specified order.
+	 * </p>
+	 * <p>
+	 * The view is computed once per version of the contact list and shared by all callers.
+	 * </p>
+	 * <p>
+	 * NB: This method may take nontrivial time to execute the first time after the contact list changes, so do not call it from the UI thread.
+	 * </p>
+	 *
+	 * @param order The sort order.
+	 * @return The sorted view of the current snapshot.
+	 * @see ContactsSnapshot#getSortedView(ContactsSortOrder)
+	 */
+	public @NonNull ContactsView getSortedView(@NonNull ContactsSortOrder order) {
+		return getSnapshot().getSortedView(order);
+	}
+
+	/**
+	 * <p>
+	 * Returns an immutable snapshot of the contact list.
+	 * </p>
+	 * <p>
+	 * The snapshot is loaded in a single pass the first time this method is called after the contact list changes,
+	 * and the same instance is returned until the next change. Reading the snapshot is fast and can be done from any thread.
+	 * </p>
+	 * <p>
+	 * NB: Loading the snapshot may take nontrivial time to execute, so do not call this method from the UI thread.
+	 * </p>
+	 *
+	 * @return The current snapshot of the contact list.
+	 * @see Events#onContactsChanged()
+	 */
+	public synchronized @NonNull ContactsSnapshot getSnapshot() {
+		long version = _version; // Read before the cursor is refreshed so that a concurrent change triggers another load
+		check();
+		ContactsSnapshot snapshot = _snapshot;
+		if (snapshot == null || snapshot._version != version) {
+			snapshot = load(version);
+			_snapshot = snapshot;
+			store(snapshot);
+		}
+		return snapshot;
+	}
+
+	/**
+	 * <p>
+	 * Loads a snapshot of the contact list in the background.
+	 * </p>
+	 * <p>
+	 * The snapshot is loaded on a background thread owned by the SDK and delivered using the executor.
+	 * When the current snapshot is already loaded from the Zello Work app, it is delivered right away.
+	 * While the callback is pending, the SDK reloads the list in the background as soon as it changes again.
+	 * </p>
+	 *
+	 * @param executor Executor used to invoke the callback, for example <code>ContextCompat.getMainExecutor(context)</code>.
+	 * @param callback Callback receiving the snapshot.
+	 * @see #getSnapshot()
+	 */
+	public void getSnapshotAsync(@NonNull Executor executor, @NonNull ContactsCallback callback) {
+		ContactsSnapshot snapshot = getLoadedSnapshot();
+		if (snapshot != null) {
+			executor.execute(() -> callback.onContactsLoaded(snapshot));
+			return;
+		}
+		_asyncLoads.incrementAndGet();
+		Runnable load = () -> {
+			ContactsSnapshot loaded;
+			try {
+				loaded = getSnapshot();
+			} finally {
+				_asyncLoads.decrementAndGet();
+			}
+			executor.execute(() -> callback.onContactsLoaded(loaded));
+		};
+		Handler loader = getLoader();
+		if (loader == null || !loader.post(load)) {
+			// The list is closed and no longer has any contacts to load
+			load.run();
+		}
+	}
+
+	/**
+	 * Returns the number of change notifications received from the Zello Work app.
+	 *
+	 * @return Number of received change notifications.
+	 * @see Zello#setContactsChangeCoalescing(int, int)
+	 */
+	public int getChangeNotificationCount() {
+		ContactsObserver observer = _observer;
+		return observer != null ? observer.getReceivedCount() : 0;
+	}
+
+	/**
+	 * Returns the number of change notifications that were merged into another notification and didn't produce a separate
+	 * {@link Events#onContactsChanged()} event.
+	 *
+	 * @return Number of coalesced change notifications, including the ones that are still pending.
+	 * @see Zello#setContactsChangeCoalescing(int, int)
+	 */
+	public int getCoalescedChangeCount() {
+		ContactsObserver observer = _observer;
+		return observer != null ? observer.getReceivedCount() - observer.getDeliveredCount() : 0;
 	}
 
 	//endregion
@@ -168,6 +549,111 @@ public class Contacts {
 
 	//region Private Methods
 
+	/**
+	 * Serve the last known list of the account until the Zello Work app is ready.
+	 * The cached snapshot is the same instance every time.
+	 */
+	private @NonNull ContactsSnapshot loadCached(long version) {
+		ContactsCache cache = _cache;
+		if (_cached == null && cache != null) {
+			_cached = cache.read();
+		}
+		ContactsSnapshot cached = _cached;
+		return cached != null ? cached : new ContactsSnapshot(version, 0);
+	}
+
+	/**
+	 * Save a live non-empty list in the background; an empty list usually means that the sign in is still in progress.
+	 */
+	private void store(@NonNull ContactsSnapshot snapshot) {
+		ContactsCache cache = _cache;
+		if (cache == null || snapshot._stale || snapshot._count == 0 || _cursor == null) {
+			return;
+		}
+		Handler loader = getLoader();
+		if (loader != null) {
+			loader.post(() -> cache.write(snapshot));
+		}
+	}
+
+	private void prefetch() {
+		if (_asyncLoads.get() == 0) {
+			return;
+		}
+		Handler loader = getLoader();
+		if (loader != null) {
+			loader.post(this::getSnapshot);
+		}
+	}
+
+	private @Nullable Handler getLoader() {
+		Contacts parent = _parent;
+		if (parent != null) {
+			return parent.getLoader();
+		}
+		synchronized (_loaderLock) {
+			if (_loader == null && _context != null) {
+				HandlerThread thread = new HandlerThread("Zello SDK contacts", Process.THREAD_PRIORITY_BACKGROUND);
+				thread.start();
+				_loaderThread = thread;
+				_loader = new Handler(thread.getLooper());
+			}
+			return _loader;
+		}
+	}
+
+	private @NonNull ContactsSnapshot load(long version) {
+		Cursor cursor = _cursor;
+		if (cursor == null) {
+			return loadCached(version);
+		}
+		try {
+			int[] rows = getRows(cursor);
+			int count = rows != null ? rows.length : cursor.getCount();
+			ContactsSnapshot snapshot = new ContactsSnapshot(version, count);
+			for (int index = 0; index < count; ++index) {
+				if (!cursor.moveToPosition(rows != null ? rows[index] : index)) {
+					// The list got shorter while it was being read; don't leave empty contacts at the end
+					return snapshot.truncate(index);
+				}
+				ContactType type = Sdk.intToContactType(getInt(cursor, _indexType));
+				snapshot._names[index] = getString(cursor, _indexName);
+				snapshot._fullNames[index] = getString(cursor, _indexFullName);
+				snapshot._displayNames[index] = getString(cursor, _indexDisplayName);
+				snapshot._types[index] = (byte) type.ordinal();
+				snapshot._statuses[index] = (byte) Sdk.intToContactStatus(getInt(cursor, _indexStatus)).ordinal();
+				snapshot._titles[index] = getString(cursor, _indexTitle);
+				byte flags = getInt(cursor, _indexMuted) != 0 ? ContactsSnapshot.FLAG_MUTED : 0;
+				switch (type) {
+					case USER:
+					case GATEWAY: {
+						snapshot._statusMessages[index] = getString(cursor, _indexStatusMessage);
+						flags |= ContactsSnapshot.FLAG_NO_DISCONNECT;
+						break;
+					}
+					case CHANNEL: {
+						snapshot._usersCounts[index] = getInt(cursor, _indexUsersCount);
+						break;
+					}
+					case GROUP:
+					case CONVERSATION: {
+						snapshot._usersCounts[index] = getInt(cursor, _indexUsersCount);
+						snapshot._usersTotals[index] = getInt(cursor, _indexUsersTotal);
+						break;
+					}
+				}
+				if (getInt(cursor, _indexNoDisconnect) != 0) {
+					flags |= ContactsSnapshot.FLAG_NO_DISCONNECT;
+				}
+				snapshot._flags[index] = flags;
+			}
+			return snapshot;
+		} catch (Throwable t) {
+			Log.INSTANCE.e("Error in Contacts.load", t);
+		}
+		return new ContactsSnapshot(version, 0);
+	}
+
 	private void query() {
 		Context context = _context;
 		if (context == null) {
@@ -175,8 +661,24 @@ public class Contacts {
 		}
 		Cursor cursor = null;
 		_indexNoDisconnect = -1;
+		_rows = null;
+		_rowsReady = false;
 		try {
-			cursor = context.getContentResolver().query(_uri, null, null, null, null);
+			ContentResolver resolver = context.getContentResolver();
+			ContactsQuery query = _query;
+			if (query != null) {
+				// Let the provider skip unneeded data; older apps may reject the request or ignore the selection
+				List<String> args = new ArrayList<>();
+				String selection = getSelection(query, args);
+				try {
+					cursor = resolver.query(_uri, getProjection(query), selection, selection != null ? args.toArray(new String[0]) : null, null);
+				} catch (Throwable t) {
+					Log.INSTANCE.e("Error in Contacts.query, falling back to the full list", t);
+				}
+			}
+			if (cursor == null) {
+				cursor = resolver.query(_uri, null, null, null, null);
+			}
 			_indexName = cursor.getColumnIndex(_columnName);
 			_indexFullName = cursor.getColumnIndex(_columnFullName);
 			_indexDisplayName = cursor.getColumnIndex(_columnDisplayName);
@@ -187,7 +689,9 @@ public class Contacts {
 			_indexUsersTotal = cursor.getColumnIndex(_columnUsersTotal);
 			_indexTitle = cursor.getColumnIndex(_columnTitle);
 			_indexMuted = cursor.getColumnIndex(_columnMuted);
-			cursor.registerContentObserver(_observer);
+			if (_observer != null) {
+				cursor.registerContentObserver(_observer);
+			}
 		} catch (Throwable t) {
 			if (cursor != null) {
 				try {
@@ -204,6 +708,8 @@ public class Contacts {
 			} catch (Throwable ignore) {
 			}
 		}
+		// When the Zello Work app isn't ready yet, the cursor stays null until the SDK invalidates the list
+		// on an app state change that may make it ready
 		_cursor = cursor;
 	}
 
@@ -211,10 +717,12 @@ public class Contacts {
 		Cursor cursor = _cursor;
 		_cursor = null;
 		if (cursor != null) {
-			try {
-				cursor.unregisterContentObserver(_observer);
-			} catch (Throwable t) {
-				Log.INSTANCE.e("Error in Contacts.close", t);
+			if (_observer != null) {
+				try {
+					cursor.unregisterContentObserver(_observer);
+				} catch (Throwable t) {
+					Log.INSTANCE.e("Error in Contacts.close", t);
+				}
 			}
 			try {
 				cursor.close();
@@ -224,6 +732,141 @@ public class Contacts {
 		}
 	}
 
+	/**
+	 * Get the cursor positions of the contacts matching the query.
+	 * Contacts are filtered on the client side as well since older apps ignore the selection.
+	 */
+	private @Nullable int[] getRows(@NonNull Cursor cursor) {
+		if (_rowsReady) {
+			return _rows;
+		}
+		int[] rows = null;
+		ContactsQuery query = _query;
+		if (query != null && query.isFiltered()) {
+			int count = cursor.getCount();
+			rows = new int[count];
+			int matched = 0;
+			for (int position = 0; position < count && cursor.moveToPosition(position); ++position) {
+				if (query.matches(Sdk.intToContactType(getInt(cursor, _indexType)), Sdk.intToContactStatus(getInt(cursor, _indexStatus)))) {
+					rows[matched++] = position;
+				}
+			}
+			rows = matched == count ? null : Arrays.copyOf(rows, matched);
+		}
+		_rows = rows;
+		_rowsReady = true;
+		return rows;
+	}
+
+	private static @Nullable String[] getProjection(@NonNull ContactsQuery query) {
+		if (query._columns == ContactsQuery.ALL) {
+			return null;
+		}
+		List<String> columns = new ArrayList<>();
+		columns.add(_columnName);
+		columns.add(_columnType);
+		columns.add(_columnStatus);
+		for (ContactColumn column : ContactColumn.values()) {
+			if (query.hasColumn(column)) {
+				columns.add(switch (column) {
+					case FULL_NAME -> _columnFullName;
+					case DISPLAY_NAME -> _columnDisplayName;
+					case STATUS_MESSAGE -> _columnStatusMessage;
+					case USERS_COUNT -> _columnUsersCount;
+					case USERS_TOTAL -> _columnUsersTotal;
+					case TITLE -> _columnTitle;
+					case MUTED -> _columnMuted;
+					case NO_DISCONNECT -> _columnNoDisconnect;
+				});
+			}
+		}
+		return columns.toArray(new String[0]);
+	}
+
+	/**
+	 * Build the selection and its arguments, the same filter is also applied on the client side.
+	 */
+	private static @Nullable String getSelection(@NonNull ContactsQuery query, @NonNull List<String> args) {
+		if (!query.isFiltered()) {
+			return null;
+		}
+		StringBuilder selection = new StringBuilder();
+		if (query._types != ContactsQuery.ALL) {
+			int start = args.size();
+			for (ContactType type : ContactType.values()) {
+				if (query.hasType(type)) {
+					args.add(Integer.toString(Sdk.contactTypeToInt(type)));
+				}
+			}
+			appendIn(selection, _columnType, args.size() - start);
+		}
+		if (query._statuses != ContactsQuery.ALL) {
+			int start = args.size();
+			for (ContactStatus status : ContactStatus.values()) {
+				if (query.hasStatus(status)) {
+					for (int value : Sdk.contactStatusToInts(status)) {
+						args.add(Integer.toString(value));
+					}
+				}
+			}
+			if (selection.length() > 0) {
+				selection.append(" AND ");
+			}
+			appendIn(selection, _columnStatus, args.size() - start);
+		}
+		return selection.toString();
+	}
+
+	private static void appendIn(@NonNull StringBuilder selection, @NonNull String column, int count) {
+		if (count == 0) {
+			selection.append("0");
+			return;
+		}
+		selection.append(column).append(" IN (");
+		for (int i = 0; i < count; ++i) {
+			selection.append(i == 0 ? "?" : ",?");
+		}
+		selection.append(')');
+	}
+
+	private void read(@NonNull Cursor cursor, @NonNull Contact contact) {
+		contact.reset();
+		contact._name = getString(cursor, _indexName);
+		contact._fullName = getString(cursor, _indexFullName);
+		contact._displayName = getString(cursor, _indexDisplayName);
+		contact._type = Sdk.intToContactType(getInt(cursor, _indexType));
+		contact._status = Sdk.intToContactStatus(getInt(cursor, _indexStatus));
+		contact._title = getString(cursor, _indexTitle);
+		contact._muted = getInt(cursor, _indexMuted) != 0;
+		switch (contact._type) {
+			case USER:
+			case GATEWAY: {
+				contact._statusMessage = getString(cursor, _indexStatusMessage);
+				break;
+			}
+			case CHANNEL: {
+				contact._usersCount = getInt(cursor, _indexUsersCount);
+				break;
+			}
+			case GROUP:
+			case CONVERSATION: {
+				contact._usersCount = getInt(cursor, _indexUsersCount);
+				contact._usersTotal = getInt(cursor, _indexUsersTotal);
+				break;
+			}
+		}
+		contact._noDisconnect = (contact._type != ContactType.CHANNEL && contact._type != ContactType.GROUP && contact._type != ContactType.CONVERSATION) ||
+				getInt(cursor, _indexNoDisconnect) != 0;
+	}
+
+	private static @Nullable String getString(@NonNull Cursor cursor, int index) {
+		return index >= 0 ? cursor.getString(index) : null;
+	}
+
+	private static int getInt(@NonNull Cursor cursor, int index) {
+		return index >= 0 ? cursor.getInt(index) : 0;
+	}
+
 	private void check() {
 		if (_invalid) {
 			_invalid = false;
@@ -0,0 +1,173 @@
+package com.zello.sdk;
+
+import android.content.Context;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+/**
+ * <p>
+ * Last known contact list of an account stored on disk, served while the Zello Work app is not ready to provide the live list.
+ * </p>
+ * <p>
+ * The file starts with a magic number, a format version and the number of contacts, followed by one record per contact:
+ * type, status and flags bytes, users count and total ints and five strings, each written as a byte length (-1 for null)
+ * followed by UTF-8 bytes. All numbers are big endian. Files are replaced atomically and read through a memory map.
+ * </p>
+ */
+class ContactsCache {
+
+	private static final String _directoryName = "zello-sdk-contacts";
+	private static final String _extension = ".bin";
+	private static final int MAGIC = 0x5A534443; // ZSDC
+	private static final int FORMAT = 1;
+	private static final int MIN_RECORD_SIZE = 3 + 2 * 4 + 5 * 4;
+
+	private final @NonNull File _file;
+
+	private ContactsCache(@NonNull File file) {
+		_file = file;
+	}
+
+	/**
+	 * Get the cache of an account.
+	 * When the account is not known yet, the cache of the account that was active the last time is used.
+	 */
+	static @Nullable ContactsCache get(@Nullable Context context, @NonNull String packageName, @Nullable String network, @Nullable String username) {
+		if (context == null) {
+			return null;
+		}
+		try {
+			File directory = new File(context.getNoBackupFilesDir(), _directoryName);
+			String prefix = Sdk.md5(packageName) + "_";
+			if (!Util.isNullOrEmpty(username)) {
+				return new ContactsCache(new File(directory, prefix + Sdk.md5(Util.emptyIfNull(network) + "|" + username) + _extension));
+			}
+			File[] files = directory.listFiles();
+			File latest = null;
+			if (files != null) {
+				for (File file : files) {
+					String name = file.getName();
+					if (name.startsWith(prefix) && name.endsWith(_extension) && (latest == null || file.lastModified() > latest.lastModified())) {
+						latest = file;
+					}
+				}
+			}
+			return latest != null ? new ContactsCache(latest) : null;
+		} catch (Throwable t) {
+			Log.INSTANCE.e("Error in ContactsCache.get", t);
+		}
+		return null;
+	}
+
+	@NonNull File getFile() {
+		return _file;
+	}
+
+	@Nullable ContactsSnapshot read() {
+		try (RandomAccessFile file = new RandomAccessFile(_file, "r"); FileChannel channel = file.getChannel()) {
+			ByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+			if (buffer.remaining() < 12 || buffer.getInt() != MAGIC || buffer.getInt() != FORMAT) {
+				return null;
+			}
+			int count = buffer.getInt();
+			if (count < 0 || count > buffer.remaining() / MIN_RECORD_SIZE) {
+				return null;
+			}
+			ContactsSnapshot snapshot = new ContactsSnapshot(-1, count, true);
+			int types = ContactType.values().length;
+			int statuses = ContactStatus.values().length;
+			for (int i = 0; i < count; ++i) {
+				snapshot._types[i] = buffer.get();
+				snapshot._statuses[i] = buffer.get();
+				snapshot._flags[i] = buffer.get();
+				if (snapshot._types[i] < 0 || snapshot._types[i] >= types || snapshot._statuses[i] < 0 || snapshot._statuses[i] >= statuses) {
+					return null;
+				}
+				snapshot._usersCounts[i] = buffer.getInt();
+				snapshot._usersTotals[i] = buffer.getInt();
+				snapshot._names[i] = readString(buffer);
+				snapshot._fullNames[i] = readString(buffer);
+				snapshot._displayNames[i] = readString(buffer);
+				snapshot._statusMessages[i] = readString(buffer);
+				snapshot._titles[i] = readString(buffer);
+			}
+			return snapshot;
+		} catch (FileNotFoundException ignored) {
+		} catch (Throwable t) {
+			Log.INSTANCE.e("Error in ContactsCache.read", t);
+		}
+		return null;
+	}
+
+	void write(@NonNull ContactsSnapshot snapshot) {
+		File temp = new File(_file.getPath() + ".tmp");
+		try {
+			File directory = _file.getParentFile();
+			if (directory != null && !directory.isDirectory() && !directory.mkdirs()) {
+				return;
+			}
+			try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(temp)))) {
+				out.writeInt(MAGIC);
+				out.writeInt(FORMAT);
+				out.writeInt(snapshot._count);
+				for (int i = 0; i < snapshot._count; ++i) {
+					out.writeByte(snapshot._types[i]);
+					out.writeByte(snapshot._statuses[i]);
+					out.writeByte(snapshot._flags[i]);
+					out.writeInt(snapshot._usersCounts[i]);
+					out.writeInt(snapshot._usersTotals[i]);
+					writeString(out, snapshot._names[i]);
+					writeString(out, snapshot._fullNames[i]);
+					writeString(out, snapshot._displayNames[i]);
+					writeString(out, snapshot._statusMessages[i]);
+					writeString(out, snapshot._titles[i]);
+				}
+			}
+			if (!temp.renameTo(_file)) {
+				Log.INSTANCE.e("Error in ContactsCache.write, failed to replace " + _file, null);
+				//noinspection ResultOfMethodCallIgnored
+				temp.delete();
+			}
+		} catch (Throwable t) {
+			Log.INSTANCE.e("Error in ContactsCache.write", t);
+			//noinspection ResultOfMethodCallIgnored
+			temp.delete();
+		}
+	}
+
+	private static @Nullable String readString(@NonNull ByteBuffer buffer) throws IOException {
+		int length = buffer.getInt();
+		if (length < 0) {
+			return null;
+		}
+		if (length > buffer.remaining()) {
+			throw new IOException("Truncated file");
+		}
+		byte[] bytes = new byte[length];
+		buffer.get(bytes);
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+
+	private static void writeString(@NonNull DataOutputStream out, @Nullable String s) throws IOException {
+		if (s == null) {
+			out.writeInt(-1);
+			return;
+		}
+		byte[] bytes = s.getBytes(StandardCharsets.UTF_8);
+		out.writeInt(bytes.length);
+		out.write(bytes);
+	}
+
+}
@@ -0,0 +1,27 @@
+package com.zello.sdk;
+
+import java.util.concurrent.Executor;
+
+import androidx.annotation.NonNull;
+
+/**
+ * The <code>ContactsCallback</code> interface receives contact lists loaded in the background.
+ *
+ * @see Zello#getContactsAsync(Executor, ContactsCallback)
+ */
+@SuppressWarnings("unused")
+public interface ContactsCallback {
+
+	/**
+	 * <p>
+	 * Called when a snapshot of the contact list is ready.
+	 * </p>
+	 * <p>
+	 * This method is invoked on the executor passed along with the callback.
+	 * </p>
+	 *
+	 * @param snapshot The current snapshot of the contact list.
+	 */
+	void onContactsLoaded(@NonNull ContactsSnapshot snapshot);
+
+}
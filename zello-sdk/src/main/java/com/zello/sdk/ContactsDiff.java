@@ -0,0 +1,320 @@
+package com.zello.sdk;
+
+import java.util.Objects;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+/**
+ * <p>
+ * The <code>ContactsDiff</code> class describes the differences between two versions of the contact list.
+ * </p>
+ * <p>
+ * Contacts are matched by their name and type. Each contact present in both versions is reported
+ * as moved if its relative order has changed and as changed if any of its other properties have changed.
+ * Positions of removed contacts refer to the older snapshot, all other positions refer to the newer snapshot.
+ * </p>
+ * <p>
+ * To use, keep the last snapshot that was shown to the user and compare it with the new one using
+ * {@link #compute(ContactsSnapshot, ContactsSnapshot)} after receiving {@link Events#onContactsChanged()},
+ * or let the SDK track the last snapshot of each consumer using
+ * {@link Zello#addContactsDiffObserver(java.util.concurrent.Executor, ContactsDiffObserver)}.
+ * </p>
+ */
+@SuppressWarnings({"WeakerAccess", "unused"})
+public class ContactsDiff {
+
+	//region Private Properties
+
+	private static final int[] _empty = new int[0];
+
+	private final long _fromVersion;
+	private final long _toVersion;
+	private final @NonNull int[] _inserted;
+	private final @NonNull int[] _removed;
+	private final @NonNull int[] _movedFrom;
+	private final @NonNull int[] _movedTo;
+	private final @NonNull int[] _changed;
+
+	//endregion
+
+	//region Package Private Methods
+
+	ContactsDiff(long fromVersion, long toVersion, @NonNull int[] inserted, @NonNull int[] removed, @NonNull int[] movedFrom, @NonNull int[] movedTo, @NonNull int[] changed) {
+		_fromVersion = fromVersion;
+		_toVersion = toVersion;
+		_inserted = inserted;
+		_removed = removed;
+		_movedFrom = movedFrom;
+		_movedTo = movedTo;
+		_changed = changed;
+	}
+
+	//endregion
+
+	//region Public Methods
+
+	/**
+	 * <p>
+	 * Computes the differences between two snapshots of the contact list.
+	 * </p>
+	 * <p>
+	 * The method runs in linear time for typical updates and doesn't access the Zello Work app, so it is safe to call from any thread.
+	 * </p>
+	 *
+	 * @param from Nullable; The older snapshot. When null, all contacts in <code>to</code> are reported as inserted.
+	 * @param to The newer snapshot.
+	 * @return The differences between the snapshots.
+	 */
+	public static @NonNull ContactsDiff compute(@Nullable ContactsSnapshot from, @NonNull ContactsSnapshot to) {
+		int oldCount = from != null ? from._count : 0;
+		int newCount = to._count;
+		if (from == null || oldCount == 0 || newCount == 0) {
+			return new ContactsDiff(from != null ? from._version : 0, to._version, range(newCount), range(oldCount), _empty, _empty, _empty);
+		}
+
+		// Match contacts of the newer snapshot against the older one
+		boolean[] matched = new boolean[oldCount];
+		int[] oldPositions = new int[newCount];
+		int insertedCount = 0, changedCount = 0, matchedCount = 0;
+		int[] changed = new int[newCount];
+		for (int i = 0; i < newCount; ++i) {
+			int position = from.indexOf(Util.emptyIfNull(to._names[i]), to._types[i]);
+			if (position < 0 || matched[position]) {
+				oldPositions[i] = -1;
+				++insertedCount;
+				continue;
+			}
+			matched[position] = true;
+			oldPositions[i] = position;
+			++matchedCount;
+			if (!same(from, position, to, i)) {
+				changed[changedCount++] = i;
+			}
+		}
+
+		int[] inserted = new int[insertedCount];
+		insertedCount = 0;
+		for (int i = 0; i < newCount; ++i) {
+			if (oldPositions[i] < 0) {
+				inserted[insertedCount++] = i;
+			}
+		}
+		int[] removed = new int[oldCount - matchedCount];
+		int removedCount = 0;
+		for (int i = 0; i < oldCount; ++i) {
+			if (!matched[i]) {
+				removed[removedCount++] = i;
+			}
+		}
+
+		// Contacts that are not a part of the longest run preserving the old relative order have moved
+		boolean[] stayed = longestIncreasingRun(oldPositions, matchedCount);
+		int movedCount = 0;
+		for (int i = 0; i < newCount; ++i) {
+			if (oldPositions[i] >= 0 && !stayed[i]) {
+				++movedCount;
+			}
+		}
+		int[] movedFrom = new int[movedCount];
+		int[] movedTo = new int[movedCount];
+		movedCount = 0;
+		for (int i = 0; i < newCount; ++i) {
+			if (oldPositions[i] >= 0 && !stayed[i]) {
+				movedFrom[movedCount] = oldPositions[i];
+				movedTo[movedCount++] = i;
+			}
+		}
+
+		return new ContactsDiff(from._version, to._version, inserted, removed, movedFrom, movedTo, trim(changed, changedCount));
+	}
+
+	/**
+	 * Returns the version of the older snapshot.
+	 *
+	 * @return Version of the older snapshot or 0 if there was none.
+	 */
+	public long getFromVersion() {
+		return _fromVersion;
+	}
+
+	/**
+	 * Returns the version of the newer snapshot.
+	 *
+	 * @return Version of the newer snapshot.
+	 */
+	public long getToVersion() {
+		return _toVersion;
+	}
+
+	/**
+	 * Determines if the snapshots have the same contents.
+	 *
+	 * @return boolean indicating that there were no changes.
+	 */
+	public boolean isEmpty() {
+		return _inserted.length == 0 && _removed.length == 0 && _movedFrom.length == 0 && _changed.length == 0;
+	}
+
+	/**
+	 * Returns the number of contacts that were added.
+	 *
+	 * @return Number of inserted contacts.
+	 */
+	public int getInsertedCount() {
+		return _inserted.length;
+	}
+
+	/**
+	 * Returns the position of an inserted contact in the newer snapshot.
+	 *
+	 * @param index Index between <code>0</code> and <code>getInsertedCount() - 1</code>; positions are sorted in ascending order.
+	 * @return Position in the newer snapshot.
+	 */
+	public int getInsertedPosition(int index) {
+		return _inserted[index];
+	}
+
+	/**
+	 * Returns the number of contacts that were removed.
+	 *
+	 * @return Number of removed contacts.
+	 */
+	public int getRemovedCount() {
+		return _removed.length;
+	}
+
+	/**
+	 * Returns the position of a removed contact in the older snapshot.
+	 *
+	 * @param index Index between <code>0</code> and <code>getRemovedCount() - 1</code>; positions are sorted in ascending order.
+	 * @return Position in the older snapshot.
+	 */
+	public int getRemovedPosition(int index) {
+		return _removed[index];
+	}
+
+	/**
+	 * Returns the number of contacts that changed their relative order.
+	 *
+	 * @return Number of moved contacts.
+	 */
+	public int getMovedCount() {
+		return _movedFrom.length;
+	}
+
+	/**
+	 * Returns the position of a moved contact in the older snapshot.
+	 *
+	 * @param index Index between <code>0</code> and <code>getMovedCount() - 1</code>.
+	 * @return Position in the older snapshot.
+	 */
+	public int getMovedFromPosition(int index) {
+		return _movedFrom[index];
+	}
+
+	/**
+	 * Returns the position of a moved contact in the newer snapshot.
+	 *
+	 * @param index Index between <code>0</code> and <code>getMovedCount() - 1</code>; positions are sorted in ascending order.
+	 * @return Position in the newer snapshot.
+	 */
+	public int getMovedToPosition(int index) {
+		return _movedTo[index];
+	}
+
+	/**
+	 * Returns the number of contacts whose properties (status, display name, user counts etc.) have changed.
+	 *
+	 * @return Number of changed contacts.
+	 */
+	public int getChangedCount() {
+		return _changed.length;
+	}
+
+	/**
+	 * Returns the position of a changed contact in the newer snapshot.
+	 *
+	 * @param index Index between <code>0</code> and <code>getChangedCount() - 1</code>; positions are sorted in ascending order.
+	 * @return Position in the newer snapshot.
+	 */
+	public int getChangedPosition(int index) {
+		return _changed[index];
+	}
+
+	//endregion
+
+	//region Private Methods
+
+	private static boolean same(@NonNull ContactsSnapshot a, int i, @NonNull ContactsSnapshot b, int j) {
+		return a._statuses[i] == b._statuses[j] &&
+				a._flags[i] == b._flags[j] &&
+				a._usersCounts[i] == b._usersCounts[j] &&
+				a._usersTotals[i] == b._usersTotals[j] &&
+				Objects.equals(a._displayNames[i], b._displayNames[j]) &&
+				Objects.equals(a._fullNames[i], b._fullNames[j]) &&
+				Objects.equals(a._statusMessages[i], b._statusMessages[j]) &&
+				Objects.equals(a._titles[i], b._titles[j]);
+	}
+
+	/**
+	 * Find the longest strictly increasing subsequence of non-negative values.
+	 *
+	 * @param values Sequence; negative values are skipped
+	 * @param count Number of non-negative values in the sequence
+	 * @return Flags marking the elements that belong to the subsequence
+	 */
+	private static @NonNull boolean[] longestIncreasingRun(@NonNull int[] values, int count) {
+		boolean[] result = new boolean[values.length];
+		int[] tails = new int[count]; // Index of the smallest tail of a run of each length
+		int[] previous = new int[values.length];
+		int length = 0;
+		for (int i = 0; i < values.length; ++i) {
+			int value = values[i];
+			if (value < 0) {
+				continue;
+			}
+			int low = 0, high = length;
+			while (low < high) {
+				int middle = (low + high) >>> 1;
+				if (values[tails[middle]] < value) {
+					low = middle + 1;
+				} else {
+					high = middle;
+				}
+			}
+			previous[i] = low > 0 ? tails[low - 1] : -1;
+			tails[low] = i;
+			if (low == length) {
+				++length;
+			}
+		}
+		for (int i = length > 0 ? tails[length - 1] : -1; i >= 0; i = previous[i]) {
+			result[i] = true;
+		}
+		return result;
+	}
+
+	private static @NonNull int[] range(int count) {
+		if (count == 0) {
+			return _empty;
+		}
+		int[] result = new int[count];
+		for (int i = 0; i < count; ++i) {
+			result[i] = i;
+		}
+		return result;
+	}
+
+	private static @NonNull int[] trim(@NonNull int[] values, int count) {
+		if (count == values.length) {
+			return values;
+		}
+		int[] result = new int[count];
+		System.arraycopy(values, 0, result, 0, count);
+		return result;
+	}
+
+	//endregion
+
+}
@@ -0,0 +1,30 @@
+package com.zello.sdk;
+
+import java.util.concurrent.Executor;
+
+import androidx.annotation.NonNull;
+
+/**
+ * The <code>ContactsDiffObserver</code> interface receives the changes of the contact list as differences between snapshots.
+ *
+ * @see Zello#addContactsDiffObserver(Executor, ContactsDiffObserver)
+ */
+@SuppressWarnings("unused")
+public interface ContactsDiffObserver {
+
+	/**
+	 * <p>
+	 * Called when the contact list has changed since the snapshot that the observer has seen last.
+	 * </p>
+	 * <p>
+	 * This method is invoked on the executor that the observer was added with, never for two snapshots at the same time.
+	 * The first call has a diff from an empty list, so it lists the whole contact list as inserted. When the contact list
+	 * changes several times while the observer is busy, the changes are combined into a single diff.
+	 * </p>
+	 *
+	 * @param snapshot The current snapshot of the contact list.
+	 * @param diff     The differences from the snapshot passed to the previous call.
+	 */
+	void onContactsDiff(@NonNull ContactsSnapshot snapshot, @NonNull ContactsDiff diff);
+
+}
@@ -0,0 +1,71 @@
+package com.zello.sdk;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+/**
+ * Loads the contact list on the executor of an observer and passes it the differences from the snapshot it has seen last.
+ * Each observer starts from an empty list, and at most one load is scheduled at a time, so a slow observer only skips
+ * intermediate snapshots and the next diff still covers all changes.
+ */
+class ContactsDiffSubscription implements ContactsListener, Runnable {
+
+	final @NonNull ContactsDiffObserver observer;
+	private final @NonNull Executor _executor;
+	private final @NonNull AtomicBoolean _scheduled = new AtomicBoolean();
+	private volatile boolean _changed;
+	private @Nullable ContactsSnapshot _last; // Only used by the scheduled load
+
+	ContactsDiffSubscription(@NonNull ContactsDiffObserver observer, @NonNull Executor executor) {
+		this.observer = observer;
+		_executor = executor;
+	}
+
+	@Override
+	public void onContactsChanged() {
+		schedule();
+	}
+
+	void schedule() {
+		_changed = true;
+		if (_scheduled.compareAndSet(false, true)) {
+			_executor.execute(this);
+		}
+	}
+
+	@Override
+	public void run() {
+		try {
+			_changed = false;
+			load();
+		} finally {
+			_scheduled.set(false);
+		}
+		if (_changed) {
+			// The contact list changed during the load
+			schedule();
+		}
+	}
+
+	private void load() {
+		Contacts contacts = Zello.getInstance().getCurrentContacts();
+		if (contacts == null) {
+			return;
+		}
+		ContactsSnapshot snapshot = contacts.getSnapshot();
+		ContactsSnapshot last = _last;
+		if (snapshot == last) {
+			return;
+		}
+		ContactsDiff diff = ContactsDiff.compute(last, snapshot);
+		_last = snapshot;
+		if (last != null && diff.isEmpty()) {
+			return;
+		}
+		observer.onContactsDiff(snapshot, diff);
+	}
+
+}
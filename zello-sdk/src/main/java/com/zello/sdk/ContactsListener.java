@@ -0,0 +1,23 @@
+package com.zello.sdk;
+
+/**
+ * The <code>ContactsListener</code> interface receives changes of the contact list.
+ *
+ * @see Zello#addListener(ZelloListener)
+ */
+@SuppressWarnings("unused")
+public interface ContactsListener extends ZelloListener {
+
+	/**
+	 * <p>
+	 * Called when the {@link Contacts} for the user changes.
+	 * </p>
+	 * <p>
+	 * This method is invoked on the UI thread.
+	 * </p>
+	 *
+	 * @see Zello#getContacts()
+	 */
+	void onContactsChanged();
+
+}
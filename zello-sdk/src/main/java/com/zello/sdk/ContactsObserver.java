@@ -3,26 +3,97 @@ package com.zello.sdk;
 import android.database.ContentObserver;
 import android.os.Build;
 import android.os.Handler;
+import android.os.SystemClock;
+
+import java.util.concurrent.atomic.AtomicInteger;
 
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 
+/**
+ * Change notifications are delivered on the thread of the handler, which is the UI thread in the SDK, and so are the
+ * postponed flushes; the coalescing state is confined to that thread. Without a handler, notifications arrive on
+ * a binder thread and are delivered right away, so only the counters and the settings are shared between threads.
+ */
 abstract class ContactsObserver extends ContentObserver {
 
-	private @Nullable Contacts _contacts;
+	private volatile @Nullable Contacts _contacts;
+	private final @Nullable Handler _handler;
+	private final @NonNull Runnable _flush = this::flush;
+	private volatile int _windowMs; // Notifications closer than this are merged, 0 to disable coalescing; set from any thread
+	private volatile int _maxLatencyMs; // Upper bound for delaying the first merged notification, 0 for no bound; set from any thread
+	private long _firstPending = -1; // Uptime of the first notification that hasn't been delivered yet; only used on the handler thread
+	private final @NonNull AtomicInteger _received = new AtomicInteger(); // Change notifications received from the content provider
+	private final @NonNull AtomicInteger _delivered = new AtomicInteger(); // Invalidations delivered to the contacts
 
 	ContactsObserver(@Nullable Contacts contacts, @Nullable Handler handler) {
 		super(handler);
 		_contacts = contacts;
+		_handler = handler;
 	}
 
 	void close() {
 		_contacts = null;
+		Handler handler = _handler;
+		if (handler != null) {
+			handler.removeCallbacks(_flush);
+		}
+	}
+
+	/**
+	 * Coalescing needs a handler to postpone the notifications; without one, every notification is delivered right away.
+	 */
+	void setCoalescing(int windowMs, int maxLatencyMs) {
+		_windowMs = Math.max(0, windowMs);
+		_maxLatencyMs = Math.max(0, maxLatencyMs);
+		if (windowMs > 0 && _handler == null) {
+			Log.INSTANCE.i("Contact list changes can't be coalesced without a handler");
+		}
+	}
+
+	int getReceivedCount() {
+		return _received.get();
+	}
+
+	int getDeliveredCount() {
+		return _delivered.get();
 	}
 
 	protected void invalidate() {
+		_received.incrementAndGet();
+		Handler handler = _handler;
+		int windowMs = _windowMs;
+		int maxLatencyMs = _maxLatencyMs;
+		if (windowMs <= 0 || handler == null) {
+			flush();
+			return;
+		}
+		// Postpone the invalidation until the burst is over but no longer than the max latency
+		long now = SystemClock.uptimeMillis();
+		if (_firstPending < 0) {
+			_firstPending = now;
+		}
+		long deadline = now + windowMs;
+		if (maxLatencyMs > 0) {
+			deadline = Math.min(deadline, _firstPending + maxLatencyMs);
+		}
+		handler.removeCallbacks(_flush);
+		if (deadline <= now) {
+			flush();
+		} else {
+			handler.postAtTime(_flush, deadline);
+		}
+	}
+
+	private void flush() {
+		_firstPending = -1;
+		Handler handler = _handler;
+		if (handler != null) {
+			handler.removeCallbacks(_flush);
+		}
 		Contacts contacts = _contacts;
 		if (contacts != null) {
+			_delivered.incrementAndGet();
 			contacts.invalidate();
 		}
 	}
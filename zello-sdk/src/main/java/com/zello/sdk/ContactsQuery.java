@@ -0,0 +1,173 @@
+package com.zello.sdk;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+/**
+ * <p>
+ * The <code>ContactsQuery</code> class describes which part of the contact list should be loaded from the Zello Work app.
+ * </p>
+ * <p>
+ * Requesting only the columns that are actually displayed and only the types or statuses of contacts that are needed
+ * reduces the amount of data transferred between the apps. When the Zello Work app doesn't support filtering,
+ * the contacts are filtered by the SDK, so the results are the same either way.
+ * Properties that weren't requested have their default values (null or zero).
+ * </p>
+ * <p>
+ * To use, configure a query and pass it to {@link Zello#getContacts(ContactsQuery)}:
+ * </p>
+ * <pre>
+ * ContactsQuery query = new ContactsQuery().setTypes(ContactType.CHANNEL).setColumns(ContactColumn.USERS_COUNT);
+ * Contacts channels = Zello.getInstance().getContacts(query);
+ * </pre>
+ */
+@SuppressWarnings({"WeakerAccess", "unused"})
+public class ContactsQuery {
+
+	//region Private Properties
+
+	static final int ALL = -1;
+
+	int _columns = ALL; // Bit mask of ContactColumn ordinals
+	int _types = ALL; // Bit mask of ContactType ordinals
+	int _statuses = ALL; // Bit mask of ContactStatus ordinals
+
+	//endregion
+
+	//region Public Methods
+
+	/**
+	 * Creates a query that loads all properties of all contacts.
+	 */
+	public ContactsQuery() {
+	}
+
+	/**
+	 * Limits the optional properties loaded for each contact.
+	 *
+	 * @param columns Nullable; Properties to load in addition to the name, type and status. Pass null to load all properties.
+	 * @return This query.
+	 */
+	public @NonNull ContactsQuery setColumns(@Nullable ContactColumn... columns) {
+		_columns = toMask(columns, ContactColumn.values().length);
+		return this;
+	}
+
+	/**
+	 * Limits the contacts to the specified types.
+	 *
+	 * @param types Nullable; Types of contacts to include. Pass null to include all types.
+	 * @return This query.
+	 */
+	public @NonNull ContactsQuery setTypes(@Nullable ContactType... types) {
+		_types = toMask(types, ContactType.values().length);
+		return this;
+	}
+
+	/**
+	 * Limits the contacts to the specified statuses.
+	 *
+	 * @param statuses Nullable; Statuses of contacts to include. Pass null to include all statuses.
+	 * @return This query.
+	 */
+	public @NonNull ContactsQuery setStatuses(@Nullable ContactStatus... statuses) {
+		_statuses = toMask(statuses, ContactStatus.values().length);
+		return this;
+	}
+
+	/**
+	 * Determines if the property is loaded by this query.
+	 *
+	 * @param column Property of a contact.
+	 * @return boolean indicating that the property is loaded.
+	 */
+	public boolean hasColumn(@NonNull ContactColumn column) {
+		return has(_columns, column.ordinal());
+	}
+
+	/**
+	 * Determines if the contacts of the type are included by this query.
+	 *
+	 * @param type Type of a contact.
+	 * @return boolean indicating that the contacts of the type are included.
+	 */
+	public boolean hasType(@NonNull ContactType type) {
+		return has(_types, type.ordinal());
+	}
+
+	/**
+	 * Determines if the contacts with the status are included by this query.
+	 *
+	 * @param status Status of a contact.
+	 * @return boolean indicating that the contacts with the status are included.
+	 */
+	public boolean hasStatus(@NonNull ContactStatus status) {
+		return has(_statuses, status.ordinal());
+	}
+
+	@Override
+	public boolean equals(@Nullable Object o) {
+		if (this == o) {
+			return true;
+		}
+		if (!(o instanceof ContactsQuery)) {
+			return false;
+		}
+		ContactsQuery query = (ContactsQuery) o;
+		return _columns == query._columns && _types == query._types && _statuses == query._statuses;
+	}
+
+	@Override
+	public int hashCode() {
+		return (_columns * 31 + _types) * 31 + _statuses;
+	}
+
+	//endregion
+
+	//region Package Private Methods
+
+	boolean isDefault() {
+		return _columns == ALL && _types == ALL && _statuses == ALL;
+	}
+
+	boolean isFiltered() {
+		return _types != ALL || _statuses != ALL;
+	}
+
+	boolean matches(@NonNull ContactType type, @NonNull ContactStatus status) {
+		return has(_types, type.ordinal()) && has(_statuses, status.ordinal());
+	}
+
+	@NonNull ContactsQuery copy() {
+		ContactsQuery query = new ContactsQuery();
+		query._columns = _columns;
+		query._types = _types;
+		query._statuses = _statuses;
+		return query;
+	}
+
+	//endregion
+
+	//region Private Methods
+
+	private static boolean has(int mask, int ordinal) {
+		return (mask & (1 << ordinal)) != 0;
+	}
+
+	private static int toMask(@Nullable Enum<?>[] values, int count) {
+		if (values == null) {
+			return ALL;
+		}
+		int mask = 0;
+		for (Enum<?> value : values) {
+			if (value != null) {
+				mask |= 1 << value.ordinal();
+			}
+		}
+		// Selecting every value is the same as not filtering at all
+		return mask == (1 << count) - 1 ? ALL : mask;
+	}
+
+	//endregion
+
+}
@@ -0,0 +1,190 @@
+package com.zello.sdk;
+
+import java.util.Arrays;
+import java.util.Locale;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+/**
+ * Case-insensitive search index over the name, full name and display name of the contacts in a {@link ContactsSnapshot}.
+ * Prefix queries use a sorted array of all names; infix queries use bigram and trigram postings
+ * and verify each candidate, so hash collisions never produce false matches.
+ */
+class ContactsSearchIndex {
+
+	private static final int COLUMNS = 3; // Name, full name, display name
+
+	private static final int[] _empty = new int[0];
+
+	private final int _count;
+	private final @NonNull String[] _keys; // Lower case names, COLUMNS per contact
+	private final @NonNull int[] _sorted; // Key indexes sorted by key
+	private final @NonNull int[] _grams; // Sorted unique bigram and trigram hashes
+	private final @NonNull int[] _gramStarts; // Start of postings of each gram, one extra entry at the end
+	private final @NonNull int[] _postings; // Ascending contact positions for each gram
+
+	ContactsSearchIndex(@NonNull ContactsSnapshot snapshot) {
+		_count = snapshot._count;
+		_keys = new String[_count * COLUMNS];
+		int gramCount = 0;
+		for (int i = 0; i < _count; ++i) {
+			_keys[i * COLUMNS] = toKey(snapshot._names[i]);
+			_keys[i * COLUMNS + 1] = toKey(snapshot._fullNames[i]);
+			_keys[i * COLUMNS + 2] = toKey(snapshot._displayNames[i]);
+			for (int column = 0; column < COLUMNS; ++column) {
+				int length = _keys[i * COLUMNS + column].length();
+				gramCount += Math.max(0, length - 1) + Math.max(0, length - 2);
+			}
+		}
+
+		_sorted = new int[_keys.length];
+		for (int i = 0; i < _sorted.length; ++i) {
+			_sorted[i] = i;
+		}
+		Util.sort(_sorted, (a, b) -> _keys[a].compareTo(_keys[b]));
+
+		// Collect (gram, position) pairs, sort them and drop duplicates
+		long[] pairs = new long[gramCount];
+		gramCount = 0;
+		for (int i = 0; i < _keys.length; ++i) {
+			String key = _keys[i];
+			long position = i / COLUMNS;
+			for (int j = 0; j + 2 <= key.length(); ++j) {
+				pairs[gramCount++] = ((long) hash2(key, j) << 32) | position;
+				if (j + 3 <= key.length()) {
+					pairs[gramCount++] = ((long) hash3(key, j) << 32) | position;
+				}
+			}
+		}
+		Arrays.sort(pairs);
+		int unique = 0, distinctGrams = 0;
+		for (int i = 0; i < pairs.length; ++i) {
+			if (i == 0 || pairs[i] != pairs[i - 1]) {
+				if (unique == 0 || (int) (pairs[i] >>> 32) != (int) (pairs[unique - 1] >>> 32)) {
+					++distinctGrams;
+				}
+				pairs[unique++] = pairs[i];
+			}
+		}
+		_grams = new int[distinctGrams];
+		_gramStarts = new int[distinctGrams + 1];
+		_postings = new int[unique];
+		int gram = -1;
+		for (int i = 0; i < unique; ++i) {
+			int hash = (int) (pairs[i] >>> 32);
+			if (gram < 0 || _grams[gram] != hash) {
+				_grams[++gram] = hash;
+				_gramStarts[gram] = i;
+			}
+			_postings[i] = (int) pairs[i];
+		}
+		_gramStarts[distinctGrams] = unique;
+	}
+
+	@NonNull int[] searchPrefix(@Nullable String query, int limit) {
+		String key = toKey(query);
+		if (key.isEmpty()) {
+			return all(limit);
+		}
+		// Find the first key that is not less than the query
+		int low = 0, high = _sorted.length;
+		while (low < high) {
+			int middle = (low + high) >>> 1;
+			if (_keys[_sorted[middle]].compareTo(key) < 0) {
+				low = middle + 1;
+			} else {
+				high = middle;
+			}
+		}
+		// Report each contact once, in the snapshot order
+		long[] found = new long[(_count + 63) >>> 6];
+		for (int i = low; i < _sorted.length && _keys[_sorted[i]].startsWith(key); ++i) {
+			int position = _sorted[i] / COLUMNS;
+			found[position >>> 6] |= 1L << position;
+		}
+		int[] result = new int[16];
+		int count = 0;
+		for (int word = 0; word < found.length && count < limit; ++word) {
+			for (long bits = found[word]; bits != 0 && count < limit; bits &= bits - 1) {
+				if (count == result.length) {
+					result = Arrays.copyOf(result, count * 2);
+				}
+				result[count++] = (word << 6) + Long.numberOfTrailingZeros(bits);
+			}
+		}
+		return Arrays.copyOf(result, count);
+	}
+
+	@NonNull int[] search(@Nullable String query, int limit) {
+		String key = toKey(query);
+		if (key.isEmpty()) {
+			return all(limit);
+		}
+		if (key.length() < 2) {
+			return scan(key, limit);
+		}
+		// Verify the candidates from the shortest posting list of all grams in the query
+		int bestStart = 0, bestEnd = Integer.MAX_VALUE;
+		for (int j = 0; j + 3 <= key.length() || j == 0; ++j) {
+			int gram = Arrays.binarySearch(_grams, key.length() == 2 ? hash2(key, j) : hash3(key, j));
+			if (gram < 0) {
+				return _empty;
+			}
+			if (_gramStarts[gram + 1] - _gramStarts[gram] < bestEnd - bestStart) {
+				bestStart = _gramStarts[gram];
+				bestEnd = _gramStarts[gram + 1];
+			}
+		}
+		int[] result = new int[Math.min(limit, bestEnd - bestStart)];
+		int count = 0;
+		for (int i = bestStart; i < bestEnd && count < result.length; ++i) {
+			int position = _postings[i];
+			if (matches(position, key)) {
+				result[count++] = position;
+			}
+		}
+		return count == result.length ? result : Arrays.copyOf(result, count);
+	}
+
+	private @NonNull int[] scan(@NonNull String key, int limit) {
+		int[] result = new int[Math.min(limit, _count)];
+		int count = 0;
+		for (int position = 0; position < _count && count < result.length; ++position) {
+			if (matches(position, key)) {
+				result[count++] = position;
+			}
+		}
+		return count == result.length ? result : Arrays.copyOf(result, count);
+	}
+
+	private @NonNull int[] all(int limit) {
+		int[] result = new int[Math.min(limit, _count)];
+		for (int i = 0; i < result.length; ++i) {
+			result[i] = i;
+		}
+		return result;
+	}
+
+	private boolean matches(int position, @NonNull String key) {
+		for (int column = 0; column < COLUMNS; ++column) {
+			if (_keys[position * COLUMNS + column].contains(key)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private static int hash2(@NonNull String key, int start) {
+		return ~((key.charAt(start) << 16) | key.charAt(start + 1));
+	}
+
+	private static int hash3(@NonNull String key, int start) {
+		return (key.charAt(start) << 21) ^ (key.charAt(start + 1) << 10) ^ key.charAt(start + 2);
+	}
+
+	private static @NonNull String toKey(@Nullable String s) {
+		return s == null ? "" : s.toLowerCase(Locale.ROOT);
+	}
+
+}
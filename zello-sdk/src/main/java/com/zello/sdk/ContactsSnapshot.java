@@ -0,0 +1,500 @@
+package com.zello.sdk;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+/**
+ * <p>
+ * The <code>ContactsSnapshot</code> class represents an immutable copy of the contact list taken at a single point in time.
+ * </p>
+ * <p>
+ * To use, get the current snapshot using the {@link Contacts#getSnapshot()} method.
+ * The snapshot is loaded in a single pass over the contact list and, unlike {@link Contacts#getItem(int)},
+ * reading from it never goes back to the Zello Work app, so it is safe to use from any thread, including the UI thread.
+ * </p>
+ */
+@SuppressWarnings({"WeakerAccess", "unused"})
+public class ContactsSnapshot {
+
+	//region Package Private Properties
+
+	static final byte FLAG_MUTED = 1;
+	static final byte FLAG_NO_DISCONNECT = 2;
+
+	private static final ContactType[] _contactTypes = ContactType.values();
+	private static final ContactStatus[] _contactStatuses = ContactStatus.values();
+
+	final long _version;
+	final int _count;
+	final @NonNull String[] _names;
+	final @NonNull String[] _fullNames;
+	final @NonNull String[] _displayNames;
+	final @NonNull String[] _statusMessages;
+	final @NonNull String[] _titles;
+	final @NonNull byte[] _types; // ContactType ordinals
+	final @NonNull byte[] _statuses; // ContactStatus ordinals
+	final @NonNull byte[] _flags; // FLAG_MUTED, FLAG_NO_DISCONNECT
+	final @NonNull int[] _usersCounts;
+	final @NonNull int[] _usersTotals;
+	final boolean _stale; // Restored from the on-disk cache
+	private volatile @Nullable int[] _hashIndex; // Open addressing table of (position + 1) keyed by name and type, built on first lookup
+	private volatile @Nullable ContactsSearchIndex _searchIndex; // Built on first search
+	private volatile @Nullable String[] _sortKeys; // Lower case names shared by all sorted views
+	private final @NonNull ContactsView[] _sortedViews = new ContactsView[ContactsSortOrder.values().length]; // Built on first use
+
+	//endregion
+
+	//region Package Private Methods
+
+	ContactsSnapshot(long version, int count) {
+		this(version, count, false);
+	}
+
+	ContactsSnapshot(long version, int count, boolean stale) {
+		_version = version;
+		_count = count;
+		_stale = stale;
+		_names = new String[count];
+		_fullNames = new String[count];
+		_displayNames = new String[count];
+		_statusMessages = new String[count];
+		_titles = new String[count];
+		_types = new byte[count];
+		_statuses = new byte[count];
+		_flags = new byte[count];
+		_usersCounts = new int[count];
+		_usersTotals = new int[count];
+	}
+
+	/**
+	 * Get a snapshot of the first contacts, for lists that got shorter while they were being loaded.
+	 */
+	@NonNull ContactsSnapshot truncate(int count) {
+		if (count >= _count) {
+			return this;
+		}
+		ContactsSnapshot snapshot = new ContactsSnapshot(_version, count, _stale);
+		System.arraycopy(_names, 0, snapshot._names, 0, count);
+		System.arraycopy(_fullNames, 0, snapshot._fullNames, 0, count);
+		System.arraycopy(_displayNames, 0, snapshot._displayNames, 0, count);
+		System.arraycopy(_statusMessages, 0, snapshot._statusMessages, 0, count);
+		System.arraycopy(_titles, 0, snapshot._titles, 0, count);
+		System.arraycopy(_types, 0, snapshot._types, 0, count);
+		System.arraycopy(_statuses, 0, snapshot._statuses, 0, count);
+		System.arraycopy(_flags, 0, snapshot._flags, 0, count);
+		System.arraycopy(_usersCounts, 0, snapshot._usersCounts, 0, count);
+		System.arraycopy(_usersTotals, 0, snapshot._usersTotals, 0, count);
+		return snapshot;
+	}
+
+	//endregion
+
+	//region Public Methods
+
+	/**
+	 * <p>
+	 * Returns the version of the contact list that the snapshot was taken from.
+	 * </p>
+	 * <p>
+	 * The version increases every time the contact list changes. Two snapshots with the same version have the same contents.
+	 * </p>
+	 *
+	 * @return Version of the contact list or -1 if the snapshot was restored from the on-disk cache.
+	 */
+	public long getVersion() {
+		return _version;
+	}
+
+	/**
+	 * <p>
+	 * Determines if the snapshot was restored from the on-disk cache rather than loaded from the Zello Work app.
+	 * </p>
+	 * <p>
+	 * Until the Zello Work app is running and signed in, the SDK serves the last known contact list of the account.
+	 * Names and types of the contacts are accurate, but statuses and user counts are likely to be outdated.
+	 * {@link Events#onContactsChanged()} is called once the live list becomes available.
+	 * </p>
+	 *
+	 * @return boolean indicating that the snapshot is a cached copy.
+	 */
+	public boolean isStale() {
+		return _stale;
+	}
+
+	/**
+	 * Returns the number of contacts in the snapshot.
+	 *
+	 * @return The number of contacts.
+	 */
+	public int getCount() {
+		return _count;
+	}
+
+	/**
+	 * Returns the identifying name of the contact at the specified index.
+	 *
+	 * @param index Index of the contact, between <code>0</code> and <code>getCount() - 1</code>.
+	 * @return Name of the contact.
+	 * @see Contact#getName()
+	 */
+	public @Nullable String getName(int index) {
+		return _names[index];
+	}
+
+	/**
+	 * Returns the full name of the contact at the specified index.
+	 *
+	 * @param index Index of the contact, between <code>0</code> and <code>getCount() - 1</code>.
+	 * @return Nullable; Full name of the contact.
+	 * @see Contact#getFullName()
+	 */
+	public @Nullable String getFullName(int index) {
+		return _fullNames[index];
+	}
+
+	/**
+	 * Returns the display name of the contact at the specified index.
+	 *
+	 * @param index Index of the contact, between <code>0</code> and <code>getCount() - 1</code>.
+	 * @return Nullable; Display name of the contact.
+	 * @see Contact#getDisplayName()
+	 */
+	public @Nullable String getDisplayName(int index) {
+		return _displayNames[index];
+	}
+
+	/**
+	 * Returns the <code>ContactType</code> of the contact at the specified index.
+	 *
+	 * @param index Index of the contact, between <code>0</code> and <code>getCount() - 1</code>.
+	 * @return <code>ContactType</code> of the contact.
+	 * @see Contact#getType()
+	 */
+	public @NonNull ContactType getType(int index) {
+		return _contactTypes[_types[index]];
+	}
+
+	/**
+	 * Returns the <code>ContactStatus</code> of the contact at the specified index.
+	 *
+	 * @param index Index of the contact, between <code>0</code> and <code>getCount() - 1</code>.
+	 * @return <code>ContactStatus</code> of the contact.
+	 * @see Contact#getStatus()
+	 */
+	public @NonNull ContactStatus getStatus(int index) {
+		return _contactStatuses[_statuses[index]];
+	}
+
+	/**
+	 * Returns the custom status message of the contact at the specified index.
+	 *
+	 * @param index Index of the contact, between <code>0</code> and <code>getCount() - 1</code>.
+	 * @return Nullable; The status message of the contact.
+	 * @see Contact#getStatusMessage()
+	 */
+	public @Nullable String getStatusMessage(int index) {
+		return _statusMessages[index];
+	}
+
+	/**
+	 * Returns the number of online users in the channel at the specified index.
+	 *
+	 * @param index Index of the contact, between <code>0</code> and <code>getCount() - 1</code>.
+	 * @return Number of online users.
+	 * @see Contact#getUsersCount()
+	 */
+	public int getUsersCount(int index) {
+		return _usersCounts[index];
+	}
+
+	/**
+	 * Returns the number of total users in the channel at the specified index.
+	 *
+	 * @param index Index of the contact, between <code>0</code> and <code>getCount() - 1</code>.
+	 * @return Number of total users.
+	 * @see Contact#getUsersTotal()
+	 */
+	public int getUsersTotal(int index) {
+		return _usersTotals[index];
+	}
+
+	/**
+	 * Returns the title of the contact at the specified index.
+	 *
+	 * @param index Index of the contact, between <code>0</code> and <code>getCount() - 1</code>.
+	 * @return Nullable; The title of the contact.
+	 * @see Contact#getTitle()
+	 */
+	public @Nullable String getTitle(int index) {
+		return _titles[index];
+	}
+
+	/**
+	 * Returns whether the contact at the specified index is muted or not.
+	 *
+	 * @param index Index of the contact, between <code>0</code> and <code>getCount() - 1</code>.
+	 * @return boolean indicating if the contact is muted.
+	 * @see Contact#getMuted()
+	 */
+	public boolean getMuted(int index) {
+		return (_flags[index] & FLAG_MUTED) != 0;
+	}
+
+	/**
+	 * Returns whether the channel at the specified index has the no disconnect setting enabled or not.
+	 *
+	 * @param index Index of the contact, between <code>0</code> and <code>getCount() - 1</code>.
+	 * @return boolean indicating if the contact has the no disconnect setting enabled.
+	 * @see Contact#getNoDisconnect()
+	 */
+	public boolean getNoDisconnect(int index) {
+		return (_flags[index] & FLAG_NO_DISCONNECT) != 0;
+	}
+
+	/**
+	 * <p>
+	 * Returns the position of the contact with the specified name and type.
+	 * </p>
+	 * <p>
+	 * The lookup takes constant time. An index of the snapshot is built on the first call and reused afterwards.
+	 * </p>
+	 *
+	 * @param name Name of the contact.
+	 * @param type Type of the contact.
+	 * @return Position of the contact or <code>-1</code> if the snapshot doesn't contain such contact.
+	 * @see Contact#getName()
+	 */
+	public int indexOf(@Nullable String name, @NonNull ContactType type) {
+		if (name == null) {
+			return -1;
+		}
+		return indexOf(name, type.ordinal());
+	}
+
+	/**
+	 * <p>
+	 * Returns a new <code>Contact</code> object for the contact with the specified name and type.
+	 * </p>
+	 *
+	 * @param name Name of the contact.
+	 * @param type Type of the contact.
+	 * @return Nullable; The contact or null if the snapshot doesn't contain such contact.
+	 * @see #indexOf(String, ContactType)
+	 */
+	public @Nullable Contact find(@Nullable String name, @NonNull ContactType type) {
+		return getItem(indexOf(name, type));
+	}
+
+	/**
+	 * <p>
+	 * Finds contacts whose name, full name or display name starts with the specified text.
+	 * </p>
+	 * <p>
+	 * The search is case-insensitive. A search index is built on the first call and reused afterwards,
+	 * so subsequent searches, for example when the user types a query, are fast.
+	 * </p>
+	 *
+	 * @param query Text to search for. An empty query matches all contacts.
+	 * @param limit Maximum number of returned positions.
+	 * @return Ascending positions of the matching contacts.
+	 * @see #search(String, int)
+	 */
+	public @NonNull int[] searchPrefix(@Nullable String query, int limit) {
+		return getSearchIndex().searchPrefix(query, Math.max(0, limit));
+	}
+
+	/**
+	 * <p>
+	 * Finds contacts whose name, full name or display name contains the specified text.
+	 * </p>
+	 * <p>
+	 * The search is case-insensitive. A search index is built on the first call and reused afterwards,
+	 * so subsequent searches, for example when the user types a query, are fast.
+	 * </p>
+	 *
+	 * @param query Text to search for. An empty query matches all contacts.
+	 * @param limit Maximum number of returned positions.
+	 * @return Ascending positions of the matching contacts.
+	 * @see #searchPrefix(String, int)
+	 */
+	public @NonNull int[] search(@Nullable String query, int limit) {
+		return getSearchIndex().search(query, Math.max(0, limit));
+	}
+
+	/**
+	 * <p>
+	 * Returns the contacts of the snapshot sorted and grouped in the specified order.
+	 * </p>
+	 * <p>
+	 * The view is computed on the first call and the same instance is returned afterwards,
+	 * so any number of screens can share it without sorting the list again.
+	 * </p>
+	 *
+	 * @param order The sort order.
+	 * @return The sorted view.
+	 */
+	public @NonNull ContactsView getSortedView(@NonNull ContactsSortOrder order) {
+		ContactsView view;
+		synchronized (_sortedViews) {
+			view = _sortedViews[order.ordinal()];
+		}
+		if (view == null) {
+			String[] keys = _sortKeys;
+			if (keys == null) {
+				keys = ContactsView.getSortKeys(this);
+				_sortKeys = keys;
+			}
+			view = new ContactsView(this, order, keys);
+			synchronized (_sortedViews) {
+				if (_sortedViews[order.ordinal()] == null) {
+					_sortedViews[order.ordinal()] = view;
+				} else {
+					view = _sortedViews[order.ordinal()];
+				}
+			}
+		}
+		return view;
+	}
+
+	/**
+	 * <p>
+	 * Returns a new <code>Contact</code> object for the contact at the specified index.
+	 * </p>
+	 *
+	 * @param index Index of the contact.
+	 * @return Nullable; <code>Contact</code> at the specified index or null if the index is out of range.
+	 */
+	public @Nullable Contact getItem(int index) {
+		if (index < 0 || index >= _count) {
+			return null;
+		}
+		Contact contact = new Contact();
+		copyTo(index, contact);
+		return contact;
+	}
+
+	/**
+	 * Reads the <code>Contact</code> at the specified index into an existing instance.
+	 *
+	 * @param index Index between <code>0</code> and <code>getCount() - 1</code>.
+	 * @param contact Instance that receives the contact.
+	 * @return boolean indicating that the index was valid and the contact was read.
+	 */
+	public boolean getItem(int index, @NonNull Contact contact) {
+		if (index < 0 || index >= _count) {
+			return false;
+		}
+		copyTo(index, contact);
+		return true;
+	}
+
+	/**
+	 * <p>
+	 * Goes through the contacts in the snapshot.
+	 * </p>
+	 * <p>
+	 * A single <code>Contact</code> instance is reused for all contacts, so the traversal doesn't allocate any memory per contact.
+	 * </p>
+	 *
+	 * @param visitor Visitor receiving the contacts.
+	 * @return The number of visited contacts.
+	 */
+	public int forEach(@NonNull ContactVisitor visitor) {
+		Contact contact = new Contact();
+		int index = 0;
+		while (index < _count) {
+			copyTo(index, contact);
+			if (!visitor.visit(index++, contact)) {
+				break;
+			}
+		}
+		return index;
+	}
+
+	//endregion
+
+	//region Package Private Methods
+
+	int indexOf(@NonNull String name, int type) {
+		int[] table = _hashIndex;
+		if (table == null) {
+			table = buildHashIndex();
+			_hashIndex = table;
+		}
+		int mask = table.length - 1;
+		for (int slot = hash(name, type) & mask; ; slot = (slot + 1) & mask) {
+			int entry = table[slot];
+			if (entry == 0) {
+				return -1;
+			}
+			int index = entry - 1;
+			if (_types[index] == type && name.equals(Util.emptyIfNull(_names[index]))) {
+				return index;
+			}
+		}
+	}
+
+	void copyTo(int index, @NonNull Contact contact) {
+		contact.checkWritable();
+		contact._name = _names[index];
+		contact._fullName = _fullNames[index];
+		contact._displayName = _displayNames[index];
+		contact._type = _contactTypes[_types[index]];
+		contact._status = _contactStatuses[_statuses[index]];
+		contact._statusMessage = _statusMessages[index];
+		contact._usersCount = _usersCounts[index];
+		contact._usersTotal = _usersTotals[index];
+		contact._title = _titles[index];
+		contact._muted = (_flags[index] & FLAG_MUTED) != 0;
+		contact._noDisconnect = (_flags[index] & FLAG_NO_DISCONNECT) != 0;
+	}
+
+	//endregion
+
+	//region Private Methods
+
+	private @NonNull ContactsSearchIndex getSearchIndex() {
+		ContactsSearchIndex index = _searchIndex;
+		if (index == null) {
+			index = new ContactsSearchIndex(this);
+			_searchIndex = index;
+		}
+		return index;
+	}
+
+	private @NonNull int[] buildHashIndex() {
+		// Keep the load factor at or below 0.5 so that probe sequences stay short
+		int capacity = 2;
+		while (capacity < _count * 2) {
+			capacity <<= 1;
+		}
+		int[] table = new int[capacity];
+		int mask = capacity - 1;
+		for (int index = 0; index < _count; ++index) {
+			String name = Util.emptyIfNull(_names[index]);
+			int type = _types[index];
+			int slot = hash(name, type) & mask;
+			while (true) {
+				int entry = table[slot];
+				if (entry == 0) {
+					table[slot] = index + 1;
+					break;
+				}
+				// Keep the first of duplicate contacts
+				if (_types[entry - 1] == type && name.equals(Util.emptyIfNull(_names[entry - 1]))) {
+					break;
+				}
+				slot = (slot + 1) & mask;
+			}
+		}
+		return table;
+	}
+
+	private static int hash(@NonNull String name, int type) {
+		int h = name.hashCode() * 31 + type;
+		return h ^ (h >>> 16);
+	}
+
+	//endregion
+
+}
@@ -0,0 +1,34 @@
+package com.zello.sdk;
+
+/**
+ * The <code>ContactsSortOrder</code> enum represents the orders in which a {@link ContactsView} arranges the contacts.
+ * <p>
+ * Contacts are grouped by type in the order of channels, groups, conversations, users and gateways,
+ * and by status in the order of available, busy, standby, connecting and offline.
+ * Names are compared case-insensitively using the display name, or the full name or the name when the display name is empty.
+ * Contacts that compare equal keep the order of the contact list.
+ * </p>
+ *
+ * @see ContactsSnapshot#getSortedView(ContactsSortOrder)
+ */
+@SuppressWarnings({"WeakerAccess", "unused"})
+public enum ContactsSortOrder {
+
+	/**
+	 * Sorted by name, a single group.
+	 */
+	NAME,
+	/**
+	 * Grouped by type, then sorted by name.
+	 */
+	TYPE_NAME,
+	/**
+	 * Grouped by type, then sorted by status so that online contacts come first, then by name.
+	 */
+	TYPE_STATUS_NAME,
+	/**
+	 * Grouped by status, then sorted by type and name.
+	 */
+	STATUS_TYPE_NAME
+
+}
@@ -0,0 +1,25 @@
+package com.zello.sdk;
+
+import androidx.annotation.NonNull;
+
+/**
+ * The <code>ContactsTabListener</code> interface receives changes of the last selected contact list tab.
+ *
+ * @see Zello#addListener(ZelloListener)
+ */
+@SuppressWarnings("unused")
+public interface ContactsTabListener extends ZelloListener {
+
+	/**
+	 * <p>
+	 * Called when the last {@link Contacts} {@link Tab} changes.
+	 * </p>
+	 * <p>
+	 * This method is invoked on the UI thread.
+	 * </p>
+	 *
+	 * @param tab The tab that changed.
+	 */
+	void onLastContactsTabChanged(@NonNull Tab tab);
+
+}
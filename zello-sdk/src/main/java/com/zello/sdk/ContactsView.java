@@ -0,0 +1,236 @@
+package com.zello.sdk;
+
+import java.util.Locale;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+/**
+ * <p>
+ * The <code>ContactsView</code> class represents the contacts of a {@link ContactsSnapshot} arranged in a specific order.
+ * </p>
+ * <p>
+ * Contacts are split into groups formed by the first key of the order: by type for {@link ContactsSortOrder#TYPE_NAME}
+ * and {@link ContactsSortOrder#TYPE_STATUS_NAME}, by status for {@link ContactsSortOrder#STATUS_TYPE_NAME}
+ * and a single group for {@link ContactsSortOrder#NAME}. Empty groups are omitted.
+ * </p>
+ * <p>
+ * To use, call {@link ContactsSnapshot#getSortedView(ContactsSortOrder)}. Each view is computed once per snapshot
+ * and shared by all callers, so it is safe to use from any thread.
+ * </p>
+ */
+@SuppressWarnings({"WeakerAccess", "unused"})
+public class ContactsView {
+
+	//region Private Properties
+
+	private static final int[] _typeRanks = new int[ContactType.values().length];
+	private static final int[] _statusRanks = new int[ContactStatus.values().length];
+
+	static {
+		_typeRanks[ContactType.CHANNEL.ordinal()] = 0;
+		_typeRanks[ContactType.GROUP.ordinal()] = 1;
+		_typeRanks[ContactType.CONVERSATION.ordinal()] = 2;
+		_typeRanks[ContactType.USER.ordinal()] = 3;
+		_typeRanks[ContactType.GATEWAY.ordinal()] = 4;
+		_statusRanks[ContactStatus.AVAILABLE.ordinal()] = 0;
+		_statusRanks[ContactStatus.BUSY.ordinal()] = 1;
+		_statusRanks[ContactStatus.STANDBY.ordinal()] = 2;
+		_statusRanks[ContactStatus.CONNECTING.ordinal()] = 3;
+		_statusRanks[ContactStatus.OFFLINE.ordinal()] = 4;
+	}
+
+	private final @NonNull ContactsSnapshot _snapshot;
+	private final @NonNull ContactsSortOrder _order;
+	private final @NonNull int[] _positions; // Snapshot positions in the view order
+	private final @NonNull int[] _groupStarts; // Index of the first contact of each group, one extra entry at the end
+
+	//endregion
+
+	//region Package Private Methods
+
+	ContactsView(@NonNull ContactsSnapshot snapshot, @NonNull ContactsSortOrder order, @NonNull String[] keys) {
+		_snapshot = snapshot;
+		_order = order;
+		int count = snapshot._count;
+
+		// Combine the type and status ranks into a single number compared before the names
+		int[] ranks = new int[count];
+		int[] groups = new int[count];
+		for (int i = 0; i < count; ++i) {
+			int type = _typeRanks[snapshot._types[i]];
+			int status = _statusRanks[snapshot._statuses[i]];
+			switch (order) {
+				case TYPE_NAME -> {
+					ranks[i] = type;
+					groups[i] = type;
+				}
+				case TYPE_STATUS_NAME -> {
+					ranks[i] = type * 8 + status;
+					groups[i] = type;
+				}
+				case STATUS_TYPE_NAME -> {
+					ranks[i] = status * 8 + type;
+					groups[i] = status;
+				}
+				default -> {
+				}
+			}
+		}
+		_positions = new int[count];
+		for (int i = 0; i < count; ++i) {
+			_positions[i] = i;
+		}
+		Util.sort(_positions, (a, b) -> ranks[a] != ranks[b] ? Integer.compare(ranks[a], ranks[b]) : keys[a].compareTo(keys[b]));
+
+		int groupCount = 0;
+		int[] starts = new int[count + 1];
+		for (int i = 0; i < count; ++i) {
+			if (i == 0 || groups[_positions[i]] != groups[_positions[i - 1]]) {
+				starts[groupCount++] = i;
+			}
+		}
+		starts[groupCount] = count;
+		_groupStarts = new int[groupCount + 1];
+		System.arraycopy(starts, 0, _groupStarts, 0, groupCount + 1);
+	}
+
+	/**
+	 * Get the lower case names used to sort the contacts.
+	 */
+	static @NonNull String[] getSortKeys(@NonNull ContactsSnapshot snapshot) {
+		String[] keys = new String[snapshot._count];
+		for (int i = 0; i < keys.length; ++i) {
+			String name = snapshot._displayNames[i];
+			if (Util.isNullOrEmpty(name)) {
+				name = snapshot._fullNames[i];
+			}
+			if (Util.isNullOrEmpty(name)) {
+				name = snapshot._names[i];
+			}
+			keys[i] = Util.emptyIfNull(name).toLowerCase(Locale.ROOT);
+		}
+		return keys;
+	}
+
+	//endregion
+
+	//region Public Methods
+
+	/**
+	 * Returns the snapshot that the view was computed from.
+	 *
+	 * @return The snapshot.
+	 */
+	public @NonNull ContactsSnapshot getSnapshot() {
+		return _snapshot;
+	}
+
+	/**
+	 * Returns the order of the contacts in the view.
+	 *
+	 * @return The sort order.
+	 */
+	public @NonNull ContactsSortOrder getOrder() {
+		return _order;
+	}
+
+	/**
+	 * Returns the number of contacts in the view.
+	 *
+	 * @return Number of contacts.
+	 */
+	public int getCount() {
+		return _positions.length;
+	}
+
+	/**
+	 * Returns the position of a contact in the snapshot.
+	 *
+	 * @param index Index between <code>0</code> and <code>getCount() - 1</code>.
+	 * @return Position of the contact in the snapshot.
+	 */
+	public int getPosition(int index) {
+		return _positions[index];
+	}
+
+	/**
+	 * Returns the <code>Contact</code> at the specified index of the view.
+	 *
+	 * @param index Index of the contact in the view.
+	 * @return Nullable; The contact or null if the index is out of range.
+	 */
+	public @Nullable Contact getItem(int index) {
+		if (index < 0 || index >= _positions.length) {
+			return null;
+		}
+		return _snapshot.getItem(_positions[index]);
+	}
+
+	/**
+	 * Reads the <code>Contact</code> at the specified index of the view into an existing instance.
+	 *
+	 * @param index Index of the contact in the view.
+	 * @param contact Instance that receives the contact.
+	 * @return boolean indicating that the index was valid and the contact was read.
+	 */
+	public boolean getItem(int index, @NonNull Contact contact) {
+		if (index < 0 || index >= _positions.length) {
+			return false;
+		}
+		_snapshot.copyTo(_positions[index], contact);
+		return true;
+	}
+
+	/**
+	 * Returns the number of groups in the view.
+	 *
+	 * @return Number of non-empty groups.
+	 */
+	public int getGroupCount() {
+		return _groupStarts.length - 1;
+	}
+
+	/**
+	 * Returns the index of the first contact of a group.
+	 *
+	 * @param group Index between <code>0</code> and <code>getGroupCount() - 1</code>.
+	 * @return Index of the first contact in the view.
+	 */
+	public int getGroupStart(int group) {
+		return _groupStarts[group];
+	}
+
+	/**
+	 * Returns the number of contacts in a group.
+	 *
+	 * @param group Index between <code>0</code> and <code>getGroupCount() - 1</code>.
+	 * @return Number of contacts.
+	 */
+	public int getGroupSize(int group) {
+		return _groupStarts[group + 1] - _groupStarts[group];
+	}
+
+	/**
+	 * Returns the type of contacts in a group when the view is grouped by type.
+	 *
+	 * @param group Index between <code>0</code> and <code>getGroupCount() - 1</code>.
+	 * @return Type of the first contact of the group.
+	 */
+	public @NonNull ContactType getGroupType(int group) {
+		return _snapshot.getType(_positions[_groupStarts[group]]);
+	}
+
+	/**
+	 * Returns the status of contacts in a group when the view is grouped by status.
+	 *
+	 * @param group Index between <code>0</code> and <code>getGroupCount() - 1</code>.
+	 * @return Status of the first contact of the group.
+	 */
+	public @NonNull ContactStatus getGroupStatus(int group) {
+		return _snapshot.getStatus(_positions[_groupStarts[group]]);
+	}
+
+	//endregion
+
+}
@@ -0,0 +1,208 @@
+package com.zello.sdk;
+
+import java.util.Arrays;
+import java.util.concurrent.Executor;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+/**
+ * Delivers Zello SDK events to the subscribed listeners.
+ * Each event has its own list of listeners that implement the matching interface,
+ * so the cost of an event only depends on the number of listeners interested in it.
+ * <p>
+ * The lists are immutable arrays that are replaced on every change, so events are delivered without locking or allocating,
+ * and listeners can be added or removed from any thread, including from inside a listener. An event that is being delivered
+ * is still delivered to the listeners that were subscribed when it was fired.
+ * </p>
+ * <p>
+ * Listeners subscribed with an executor are wrapped in an {@link ExecutorListener}, and contacts diff observers in a
+ * {@link ContactsDiffSubscription}; they are still found by the original listener or observer.
+ * </p>
+ */
+class EventDispatcher {
+
+	private volatile @NonNull AppStateListener[] _appState = new AppStateListener[0];
+	private volatile @NonNull MessageStateListener[] _messageState = new MessageStateListener[0];
+	private volatile @NonNull SelectedContactListener[] _selectedContact = new SelectedContactListener[0];
+	private volatile @NonNull ContactsTabListener[] _contactsTab = new ContactsTabListener[0];
+	private volatile @NonNull ContactsListener[] _contacts = new ContactsListener[0];
+	private volatile @NonNull AudioStateListener[] _audioState = new AudioStateListener[0];
+	private volatile @NonNull MicrophonePermissionListener[] _microphonePermission = new MicrophonePermissionListener[0];
+	private volatile @NonNull BluetoothAccessoryListener[] _bluetoothAccessory = new BluetoothAccessoryListener[0];
+	private volatile @NonNull ForegroundServiceListener[] _foregroundService = new ForegroundServiceListener[0];
+
+	EventDispatcher() {
+	}
+
+	/**
+	 * Subscribe a listener to every event whose interface it implements.
+	 *
+	 * @param executor Executor to call the listener on; null to call it on the thread that fires the events.
+	 * @return false if the listener was already subscribed.
+	 */
+	synchronized boolean add(@NonNull ZelloListener listener, @Nullable Executor executor) {
+		if (contains(listener)) {
+			return false;
+		}
+		ZelloListener target = executor != null ? new ExecutorListener(listener, executor) : listener;
+		if (listener instanceof AppStateListener) {
+			_appState = add(_appState, (AppStateListener) target);
+		}
+		if (listener instanceof MessageStateListener) {
+			_messageState = add(_messageState, (MessageStateListener) target);
+		}
+		if (listener instanceof SelectedContactListener) {
+			_selectedContact = add(_selectedContact, (SelectedContactListener) target);
+		}
+		if (listener instanceof ContactsTabListener) {
+			_contactsTab = add(_contactsTab, (ContactsTabListener) target);
+		}
+		if (listener instanceof ContactsListener) {
+			_contacts = add(_contacts, (ContactsListener) target);
+		}
+		if (listener instanceof AudioStateListener) {
+			_audioState = add(_audioState, (AudioStateListener) target);
+		}
+		if (listener instanceof MicrophonePermissionListener) {
+			_microphonePermission = add(_microphonePermission, (MicrophonePermissionListener) target);
+		}
+		if (listener instanceof BluetoothAccessoryListener) {
+			_bluetoothAccessory = add(_bluetoothAccessory, (BluetoothAccessoryListener) target);
+		}
+		if (listener instanceof ForegroundServiceListener) {
+			_foregroundService = add(_foregroundService, (ForegroundServiceListener) target);
+		}
+		return true;
+	}
+
+	synchronized void remove(@NonNull Object listener) {
+		_appState = remove(_appState, listener);
+		_messageState = remove(_messageState, listener);
+		_selectedContact = remove(_selectedContact, listener);
+		_contactsTab = remove(_contactsTab, listener);
+		_contacts = remove(_contacts, listener);
+		_audioState = remove(_audioState, listener);
+		_microphonePermission = remove(_microphonePermission, listener);
+		_bluetoothAccessory = remove(_bluetoothAccessory, listener);
+		_foregroundService = remove(_foregroundService, listener);
+	}
+
+	synchronized void clear() {
+		_appState = new AppStateListener[0];
+		_messageState = new MessageStateListener[0];
+		_selectedContact = new SelectedContactListener[0];
+		_contactsTab = new ContactsTabListener[0];
+		_contacts = new ContactsListener[0];
+		_audioState = new AudioStateListener[0];
+		_microphonePermission = new MicrophonePermissionListener[0];
+		_bluetoothAccessory = new BluetoothAccessoryListener[0];
+		_foregroundService = new ForegroundServiceListener[0];
+	}
+
+	void fireAppStateChanged(@NonNull AppStateChange change) {
+		for (AppStateListener listener : _appState) {
+			listener.onAppStateChanged(change);
+		}
+	}
+
+	void fireMessageStateChanged(@NonNull MessageIn messageIn, @NonNull MessageOut messageOut) {
+		for (MessageStateListener listener : _messageState) {
+			listener.onMessageStateChanged(messageIn, messageOut);
+		}
+	}
+
+	void fireSelectedContactChanged(@NonNull Contact contact) {
+		for (SelectedContactListener listener : _selectedContact) {
+			listener.onSelectedContactChanged(contact);
+		}
+	}
+
+	void fireLastContactsTabChanged(@NonNull Tab tab) {
+		for (ContactsTabListener listener : _contactsTab) {
+			listener.onLastContactsTabChanged(tab);
+		}
+	}
+
+	void fireContactsChanged() {
+		for (ContactsListener listener : _contacts) {
+			listener.onContactsChanged();
+		}
+	}
+
+	void fireAudioStateChanged() {
+		for (AudioStateListener listener : _audioState) {
+			listener.onAudioStateChanged();
+		}
+	}
+
+	void fireMicrophonePermissionNotGranted() {
+		for (MicrophonePermissionListener listener : _microphonePermission) {
+			listener.onMicrophonePermissionNotGranted();
+		}
+	}
+
+	void fireBluetoothAccessoryStateChanged(@NonNull BluetoothAccessoryType type, @NonNull BluetoothAccessoryState state,
+			@Nullable String name, @Nullable String description) {
+		for (BluetoothAccessoryListener listener : _bluetoothAccessory) {
+			listener.onBluetoothAccessoryStateChanged(type, state, name, description);
+		}
+	}
+
+	void fireForegroundServiceStartFailed(@Nullable Throwable t) {
+		for (ForegroundServiceListener listener : _foregroundService) {
+			listener.onForegroundServiceStartFailed(t);
+		}
+	}
+
+	private boolean contains(@NonNull Object listener) {
+		return indexOf(_appState, listener) >= 0
+				|| indexOf(_messageState, listener) >= 0
+				|| indexOf(_selectedContact, listener) >= 0
+				|| indexOf(_contactsTab, listener) >= 0
+				|| indexOf(_contacts, listener) >= 0
+				|| indexOf(_audioState, listener) >= 0
+				|| indexOf(_microphonePermission, listener) >= 0
+				|| indexOf(_bluetoothAccessory, listener) >= 0
+				|| indexOf(_foregroundService, listener) >= 0;
+	}
+
+	private static <T> T[] add(@NonNull T[] listeners, @NonNull T listener) {
+		if (indexOf(listeners, listener) >= 0) {
+			return listeners;
+		}
+		T[] result = Arrays.copyOf(listeners, listeners.length + 1);
+		result[listeners.length] = listener;
+		return result;
+	}
+
+	private static <T> T[] remove(@NonNull T[] listeners, @NonNull Object listener) {
+		int index = indexOf(listeners, listener);
+		if (index < 0) {
+			return listeners;
+		}
+		T[] result = Arrays.copyOf(listeners, listeners.length - 1);
+		System.arraycopy(listeners, index + 1, result, index, listeners.length - index - 1);
+		return result;
+	}
+
+	private static int indexOf(@NonNull Object[] listeners, @NonNull Object listener) {
+		for (int i = 0; i < listeners.length; ++i) {
+			if (unwrap(listeners[i]).equals(unwrap(listener))) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	private static @NonNull Object unwrap(@NonNull Object listener) {
+		if (listener instanceof ExecutorListener executorListener) {
+			return executorListener.listener;
+		}
+		if (listener instanceof ContactsDiffSubscription subscription) {
+			return subscription.observer;
+		}
+		return listener;
+	}
+
+}
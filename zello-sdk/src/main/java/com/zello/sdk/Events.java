@@ -7,10 +7,17 @@ import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 
 /**
+ * <p>
  * The <code>Events</code> interface enables monitoring of Zello SDK state and property changes
+ * </p>
+ * <p>
+ * It combines all single-event listener interfaces. Components that only need some of the events can implement
+ * just those interfaces and subscribe using {@link Zello#addListener(ZelloListener)}.
+ * </p>
  */
 @SuppressWarnings("unused")
-public interface Events {
+public interface Events extends AppStateListener, MessageStateListener, SelectedContactListener, ContactsTabListener, ContactsListener,
+		AudioStateListener, MicrophonePermissionListener, BluetoothAccessoryListener, ForegroundServiceListener {
 
 	/**
 	 * <p>
@@ -56,9 +63,27 @@ public interface Events {
 	 * </p>
 	 *
 	 * @see Zello#getAppState(AppState)
+	 * @see #onAppStateChanged(AppStateChange)
 	 */
 	void onAppStateChanged();
 
+	/**
+	 * <p>
+	 * Called when the {@link AppState} changes, along with the description of what has changed.
+	 * </p>
+	 * <p>
+	 * This method is invoked on the UI thread, only when at least one part of the <code>AppState</code> has changed.
+	 * The default implementation calls {@link #onAppStateChanged()}; override this method instead to avoid updating
+	 * the parts of the UI that depend on unchanged properties, for example on every tick of the reconnect timer.
+	 * </p>
+	 *
+	 * @param change The parts of the <code>AppState</code> that have changed.
+	 * @see Zello#getAppState(AppState)
+	 */
+	default void onAppStateChanged(@NonNull AppStateChange change) {
+		onAppStateChanged();
+	}
+
 	/**
 	 * <p>
 	 * Called when the last {@link Contacts} {@link Tab} changes.
@@ -84,9 +109,12 @@ public interface Events {
 	 * <p>
 	 * When dealing with large contact lists (1000+ contacts), the best approach is to run both <code>getContacts()</code>
 	 * and any contact processing in a background thread and then post the result to UI thread for display.
+	 * Use {@link Contacts#getSnapshot()} and {@link ContactsDiff#compute(ContactsSnapshot, ContactsSnapshot)} with the last snapshot
+	 * that was displayed to only update the contacts that have changed.
 	 * </p>
 	 *
 	 * @see Zello#getContacts()
+	 * @see ContactsDiff
 	 */
 	void onContactsChanged();
 
@@ -0,0 +1,80 @@
+package com.zello.sdk;
+
+import java.util.concurrent.Executor;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+/**
+ * Delivers the events of a listener on an executor chosen by the app.
+ * The dispatcher only calls the methods of the interfaces that the wrapped listener implements.
+ * State is passed as the snapshots taken when the event was fired, so the listener never has to read the state on the UI thread.
+ */
+class ExecutorListener implements AppStateListener, MessageStateListener, SelectedContactListener, ContactsTabListener, ContactsListener,
+		AudioStateListener, MicrophonePermissionListener, BluetoothAccessoryListener, ForegroundServiceListener {
+
+	final @NonNull ZelloListener listener;
+	private final @NonNull Executor _executor;
+
+	ExecutorListener(@NonNull ZelloListener listener, @NonNull Executor executor) {
+		this.listener = listener;
+		_executor = executor;
+	}
+
+	@Override
+	public void onAppStateChanged(@NonNull AppStateChange change) {
+		_executor.execute(() -> ((AppStateListener) listener).onAppStateChanged(change));
+	}
+
+	@Override
+	public void onMessageStateChanged() {
+		_executor.execute(((MessageStateListener) listener)::onMessageStateChanged);
+	}
+
+	@Override
+	public void onMessageStateChanged(@NonNull MessageIn messageIn, @NonNull MessageOut messageOut) {
+		_executor.execute(() -> ((MessageStateListener) listener).onMessageStateChanged(messageIn, messageOut));
+	}
+
+	@Override
+	public void onSelectedContactChanged() {
+		_executor.execute(((SelectedContactListener) listener)::onSelectedContactChanged);
+	}
+
+	@Override
+	public void onSelectedContactChanged(@NonNull Contact contact) {
+		_executor.execute(() -> ((SelectedContactListener) listener).onSelectedContactChanged(contact));
+	}
+
+	@Override
+	public void onLastContactsTabChanged(@NonNull Tab tab) {
+		_executor.execute(() -> ((ContactsTabListener) listener).onLastContactsTabChanged(tab));
+	}
+
+	@Override
+	public void onContactsChanged() {
+		_executor.execute(((ContactsListener) listener)::onContactsChanged);
+	}
+
+	@Override
+	public void onAudioStateChanged() {
+		_executor.execute(((AudioStateListener) listener)::onAudioStateChanged);
+	}
+
+	@Override
+	public void onMicrophonePermissionNotGranted() {
+		_executor.execute(((MicrophonePermissionListener) listener)::onMicrophonePermissionNotGranted);
+	}
+
+	@Override
+	public void onBluetoothAccessoryStateChanged(@NonNull BluetoothAccessoryType type, @NonNull BluetoothAccessoryState state,
+			@Nullable String name, @Nullable String description) {
+		_executor.execute(() -> ((BluetoothAccessoryListener) listener).onBluetoothAccessoryStateChanged(type, state, name, description));
+	}
+
+	@Override
+	public void onForegroundServiceStartFailed(@Nullable Throwable t) {
+		_executor.execute(() -> ((ForegroundServiceListener) listener).onForegroundServiceStartFailed(t));
+	}
+
+}
@@ -0,0 +1,26 @@
+package com.zello.sdk;
+
+import androidx.annotation.Nullable;
+
+/**
+ * The <code>ForegroundServiceListener</code> interface receives failures to start the Zello foreground service.
+ *
+ * @see Zello#addListener(ZelloListener)
+ */
+@SuppressWarnings("unused")
+public interface ForegroundServiceListener extends ZelloListener {
+
+	/**
+	 * <p>
+	 * Called when an attempt to start the Zello foreground service fails.
+	 * </p>
+	 * <p>
+	 * This method is invoked on the UI thread.
+	 * </p>
+	 *
+	 * @param t The exception that caused the failure if available.
+	 * @see Events#onForegroundServiceStartFailed(Throwable)
+	 */
+	void onForegroundServiceStartFailed(@Nullable Throwable t);
+
+}
@@ -0,0 +1,10 @@
+package com.zello.sdk;
+
+/**
+ * Comparison function for sorting arrays of primitive integers such as positions in a {@link ContactsSnapshot}.
+ */
+interface IntComparator {
+
+	int compare(int a, int b);
+
+}
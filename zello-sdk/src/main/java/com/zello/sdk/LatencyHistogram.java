@@ -0,0 +1,166 @@
+package com.zello.sdk;
+
+import java.util.Arrays;
+
+import androidx.annotation.NonNull;
+
+/**
+ * <p>
+ * The <code>LatencyHistogram</code> class represents the distribution of a measured latency.
+ * </p>
+ * <p>
+ * Values are counted in buckets with a fixed relative precision of about 3%, in the manner of HDR histograms,
+ * so the histogram uses constant memory regardless of the number of recorded values.
+ * All values are in microseconds; latencies longer than an hour are counted as an hour.
+ * </p>
+ * <p>
+ * To use, get a copy of the current statistics using {@link Zello#getLatencyHistogram(LatencyMetric, ContactType)}.
+ * </p>
+ */
+@SuppressWarnings({"WeakerAccess", "unused"})
+public class LatencyHistogram {
+
+	//region Private Properties
+
+	private static final int SUB_BUCKET_BITS = 6;
+	private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+	private static final int HALF_SUB_BUCKETS = SUB_BUCKETS / 2;
+	private static final long MAX_VALUE = 3_600_000_000L; // One hour
+	private static final int BUCKETS = index(MAX_VALUE) + 1;
+
+	private final @NonNull long[] _counts = new long[BUCKETS];
+	private long _count;
+	private long _sum;
+	private long _min;
+	private long _max;
+
+	//endregion
+
+	//region Package Private Methods
+
+	LatencyHistogram() {
+	}
+
+	void record(long value) {
+		value = Math.max(0, Math.min(value, MAX_VALUE));
+		++_counts[index(value)];
+		if (_count == 0 || value < _min) {
+			_min = value;
+		}
+		if (value > _max) {
+			_max = value;
+		}
+		++_count;
+		_sum += value;
+	}
+
+	void reset() {
+		Arrays.fill(_counts, 0);
+		_count = 0;
+		_sum = 0;
+		_min = 0;
+		_max = 0;
+	}
+
+	void copyTo(@NonNull LatencyHistogram histogram) {
+		System.arraycopy(_counts, 0, histogram._counts, 0, BUCKETS);
+		histogram._count = _count;
+		histogram._sum = _sum;
+		histogram._min = _min;
+		histogram._max = _max;
+	}
+
+	//endregion
+
+	//region Public Methods
+
+	/**
+	 * Returns the number of recorded values.
+	 *
+	 * @return Number of values.
+	 */
+	public long getCount() {
+		return _count;
+	}
+
+	/**
+	 * Returns the smallest recorded value.
+	 *
+	 * @return Value in microseconds or 0 if the histogram is empty.
+	 */
+	public long getMin() {
+		return _min;
+	}
+
+	/**
+	 * Returns the largest recorded value.
+	 *
+	 * @return Value in microseconds or 0 if the histogram is empty.
+	 */
+	public long getMax() {
+		return _max;
+	}
+
+	/**
+	 * Returns the mean of the recorded values.
+	 *
+	 * @return Value in microseconds or 0 if the histogram is empty.
+	 */
+	public double getMean() {
+		return _count > 0 ? (double) _sum / _count : 0;
+	}
+
+	/**
+	 * <p>
+	 * Returns the value below which the specified percentage of the recorded values falls.
+	 * </p>
+	 * <p>
+	 * The result is accurate to the precision of the histogram and never exceeds the largest recorded value.
+	 * </p>
+	 *
+	 * @param percentile Percentile between 0 and 100, for example 50 for the median or 99 for the 99th percentile.
+	 * @return Value in microseconds or 0 if the histogram is empty.
+	 */
+	public long getValueAtPercentile(double percentile) {
+		if (_count == 0) {
+			return 0;
+		}
+		long target = Math.max(1, (long) Math.ceil(Math.max(0, Math.min(percentile, 100)) / 100 * _count));
+		long seen = 0;
+		for (int i = 0; i < BUCKETS; ++i) {
+			seen += _counts[i];
+			if (seen >= target) {
+				return Math.max(_min, Math.min(highestEquivalentValue(i), _max));
+			}
+		}
+		return _max;
+	}
+
+	//endregion
+
+	//region Private Methods
+
+	/**
+	 * Values below SUB_BUCKETS are counted exactly, larger values keep SUB_BUCKET_BITS - 1 significant bits.
+	 */
+	private static int index(long value) {
+		if (value < SUB_BUCKETS) {
+			return (int) value;
+		}
+		int shift = 64 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS;
+		int mantissa = (int) (value >>> shift);
+		return SUB_BUCKETS + (shift - 1) * HALF_SUB_BUCKETS + mantissa - HALF_SUB_BUCKETS;
+	}
+
+	private static long highestEquivalentValue(int index) {
+		if (index < SUB_BUCKETS) {
+			return index;
+		}
+		int shift = (index - SUB_BUCKETS) / HALF_SUB_BUCKETS + 1;
+		long mantissa = (index - SUB_BUCKETS) % HALF_SUB_BUCKETS + HALF_SUB_BUCKETS;
+		return ((mantissa + 1) << shift) - 1;
+	}
+
+	//endregion
+
+}
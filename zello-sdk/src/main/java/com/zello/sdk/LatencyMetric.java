@@ -0,0 +1,30 @@
+package com.zello.sdk;
+
+/**
+ * The <code>LatencyMetric</code> enum represents the push-to-talk latencies measured by the SDK.
+ * <p>
+ * Each latency is measured from a call made by the SDK client to the corresponding {@link MessageOut} state
+ * reported back by the Zello Work app, using a monotonic clock.
+ * </p>
+ *
+ * @see Zello#getLatencyHistogram(LatencyMetric, ContactType)
+ */
+@SuppressWarnings({"WeakerAccess", "unused"})
+public enum LatencyMetric {
+
+	/**
+	 * Time from {@link Zello#beginMessage()} to the outgoing message being reported, usually in the connecting state.
+	 * @see MessageOut#isConnecting()
+	 */
+	BEGIN_TO_CONNECTING,
+	/**
+	 * Time from {@link Zello#beginMessage()} to the outgoing message being connected, which is the time it takes to start talking.
+	 * @see MessageOut#isActive()
+	 */
+	BEGIN_TO_ACTIVE,
+	/**
+	 * Time from {@link Zello#endMessage()} to the outgoing message being reported as inactive.
+	 */
+	END_TO_INACTIVE
+
+}
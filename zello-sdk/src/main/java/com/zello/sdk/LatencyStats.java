@@ -0,0 +1,100 @@
+package com.zello.sdk;
+
+import android.os.SystemClock;
+
+import androidx.annotation.NonNull;
+
+/**
+ * Measures push-to-talk latencies from the SDK calls to the message states reported by the Zello Work app.
+ */
+class LatencyStats {
+
+	private static final long MAX_PENDING = 60_000_000L; // Microseconds; older requests are considered lost
+
+	private final @NonNull LatencyHistogram[] _histograms = new LatencyHistogram[LatencyMetric.values().length * ContactType.values().length];
+	private long _beginTime = -1; // Time of the last beginMessage() that hasn't been answered, -1 if none
+	private long _endTime = -1; // Time of the last endMessage() that hasn't been answered, -1 if none
+	private boolean _connectingRecorded;
+	private boolean _outActive; // Last reported outgoing message state
+	private @NonNull ContactType _outType = ContactType.USER;
+
+	/**
+	 * Current monotonic time in microseconds.
+	 */
+	static long now() {
+		return SystemClock.elapsedRealtimeNanos() / 1000;
+	}
+
+	synchronized void onBeginMessage(long time) {
+		_beginTime = time;
+		_connectingRecorded = false;
+	}
+
+	synchronized void onEndMessage(long time) {
+		_endTime = time;
+	}
+
+	synchronized void onMessageOutState(boolean active, boolean connecting, @NonNull ContactType type, long time) {
+		if (_beginTime >= 0 && time - _beginTime > MAX_PENDING) {
+			_beginTime = -1;
+		}
+		if (_endTime >= 0 && time - _endTime > MAX_PENDING) {
+			_endTime = -1;
+		}
+		if (active) {
+			if (_beginTime >= 0) {
+				if (!_connectingRecorded) {
+					_connectingRecorded = true;
+					record(LatencyMetric.BEGIN_TO_CONNECTING, type, time - _beginTime);
+				}
+				if (!connecting) {
+					record(LatencyMetric.BEGIN_TO_ACTIVE, type, time - _beginTime);
+					_beginTime = -1;
+				}
+			}
+			_outType = type;
+		} else {
+			if (_endTime >= 0 && _outActive) {
+				record(LatencyMetric.END_TO_INACTIVE, _outType, time - _endTime);
+			}
+			if (_outActive || _endTime >= 0) {
+				// The message was ended or failed before connecting
+				_beginTime = -1;
+			}
+			_endTime = -1;
+		}
+		_outActive = active;
+	}
+
+	synchronized void getHistogram(@NonNull LatencyMetric metric, @NonNull ContactType type, @NonNull LatencyHistogram histogram) {
+		LatencyHistogram source = _histograms[index(metric, type)];
+		if (source != null) {
+			source.copyTo(histogram);
+		} else {
+			histogram.reset();
+		}
+	}
+
+	synchronized void reset() {
+		for (LatencyHistogram histogram : _histograms) {
+			if (histogram != null) {
+				histogram.reset();
+			}
+		}
+	}
+
+	private void record(@NonNull LatencyMetric metric, @NonNull ContactType type, long value) {
+		int index = index(metric, type);
+		LatencyHistogram histogram = _histograms[index];
+		if (histogram == null) {
+			histogram = new LatencyHistogram();
+			_histograms[index] = histogram;
+		}
+		histogram.record(value);
+	}
+
+	private static int index(@NonNull LatencyMetric metric, @NonNull ContactType type) {
+		return metric.ordinal() * ContactType.values().length + type.ordinal();
+	}
+
+}
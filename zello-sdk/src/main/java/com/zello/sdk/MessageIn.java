@@ -15,6 +15,7 @@ public class MessageIn {
 	final @NonNull Contact _from = new Contact();
 	final @NonNull Contact _author = new Contact();
 	boolean _active;
+	boolean _readOnly; // Shared instance published by the SDK; not copied
 
 	//endregion
 
@@ -28,8 +29,11 @@ public class MessageIn {
 	 *     This method does not affect the state of the incoming message to the Zello Work app.
 	 *     This method only resets the values for this copied instance of the <code>MessageIn</code>.
 	 * </p>
+	 *
+	 * @throws UnsupportedOperationException if the instance is shared by the SDK, for example one returned by {@link ZelloState}.
 	 */
 	public void reset() {
+		checkWritable();
 		_from.reset();
 		_author.reset();
 		_active = false;
@@ -85,15 +89,38 @@ public class MessageIn {
 
 	//region Package Private Methods
 
+	/**
+	 * Make the instance and its contacts read only before they are shared with the app.
+	 */
+	void setReadOnly() {
+		_readOnly = true;
+		_from.setReadOnly();
+		_author.setReadOnly();
+	}
+
+	/**
+	 * Make sure that the instance isn't shared by the SDK before it's modified.
+	 */
+	void checkWritable() {
+		if (_readOnly) {
+			throw new UnsupportedOperationException("The state published by the SDK is shared; use clone() to get a copy that can be modified");
+		}
+	}
+
 	void copyTo(@Nullable MessageIn message) {
 		if (message == null) {
 			return;
 		}
+		message.checkWritable();
 		_from.copyTo(message._from);
 		_author.copyTo(message._author);
 		message._active = _active;
 	}
 
+	boolean sameAs(@NonNull MessageIn message) {
+		return _active == message._active && _from.sameAs(message._from) && _author.sameAs(message._author);
+	}
+
 	//endregion
 
 }
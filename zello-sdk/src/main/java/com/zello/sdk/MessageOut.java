@@ -15,6 +15,7 @@ public class MessageOut {
 	final @NonNull Contact _to = new Contact();
 	boolean _active;
 	boolean _connecting;
+	boolean _readOnly; // Shared instance published by the SDK; not copied
 
 	//endregion
 
@@ -28,8 +29,11 @@ public class MessageOut {
 	 *     This method does not affect the state of the outgoing message to the Zello Work app.
 	 *     This method only resets the values for this copied instance of the <code>MessageOut</code>.
 	 * </p>
+	 *
+	 * @throws UnsupportedOperationException if the instance is shared by the SDK, for example one returned by {@link ZelloState}.
 	 */
 	public void reset() {
+		checkWritable();
 		_to.reset();
 		_active = false;
 		_connecting = false;
@@ -76,15 +80,37 @@ public class MessageOut {
 
 	//region Package Private Methods
 
+	/**
+	 * Make the instance and its contact read only before they are shared with the app.
+	 */
+	void setReadOnly() {
+		_readOnly = true;
+		_to.setReadOnly();
+	}
+
+	/**
+	 * Make sure that the instance isn't shared by the SDK before it's modified.
+	 */
+	void checkWritable() {
+		if (_readOnly) {
+			throw new UnsupportedOperationException("The state published by the SDK is shared; use clone() to get a copy that can be modified");
+		}
+	}
+
 	void copyTo(@Nullable MessageOut message) {
 		if (message == null) {
 			return;
 		}
+		message.checkWritable();
 		_to.copyTo(message._to);
 		message._active = _active;
 		message._connecting = _connecting;
 	}
 
+	boolean sameAs(@NonNull MessageOut message) {
+		return _active == message._active && _connecting == message._connecting && _to.sameAs(message._to);
+	}
+
 	//endregion
 
 }
@@ -0,0 +1,46 @@
+package com.zello.sdk;
+
+import java.util.concurrent.Executor;
+
+import androidx.annotation.NonNull;
+
+/**
+ * The <code>MessageStateListener</code> interface receives changes of the incoming and outgoing messages.
+ *
+ * @see Zello#addListener(ZelloListener)
+ */
+@SuppressWarnings("unused")
+public interface MessageStateListener extends ZelloListener {
+
+	/**
+	 * <p>
+	 * Called when the state of either the {@link MessageOut} or {@link MessageIn} changes.
+	 * </p>
+	 * <p>
+	 * This method is invoked on the UI thread.
+	 * </p>
+	 *
+	 * @see Zello#getMessageIn(MessageIn)
+	 * @see Zello#getMessageOut(MessageOut)
+	 */
+	void onMessageStateChanged();
+
+	/**
+	 * <p>
+	 * Called when the state of either the {@link MessageOut} or {@link MessageIn} changes, along with the new state.
+	 * </p>
+	 * <p>
+	 * The default implementation calls {@link #onMessageStateChanged()}. Override this method in listeners that run
+	 * on an executor to use the state as it was when the event was fired, without calling back into the SDK.
+	 * The objects are shared between listeners and are read only.
+	 * </p>
+	 *
+	 * @param messageIn  Snapshot of the incoming message state.
+	 * @param messageOut Snapshot of the outgoing message state.
+	 * @see Zello#addListener(ZelloListener, Executor)
+	 */
+	default void onMessageStateChanged(@NonNull MessageIn messageIn, @NonNull MessageOut messageOut) {
+		onMessageStateChanged();
+	}
+
+}
@@ -0,0 +1,327 @@
+package com.zello.sdk;
+
+import java.util.Objects;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+/**
+ * <p>
+ * The <code>MessageTimeline</code> class represents the history of the last voice messages sent and received by the user.
+ * </p>
+ * <p>
+ * The SDK records every message from the message states reported by the Zello Work app and keeps the last {@link #CAPACITY} of them.
+ * Older messages are overwritten, so the timeline uses constant memory. The timeline itself only keeps primitive arrays
+ * and shared names, but the message states it records from are still parsed into new objects for every broadcast
+ * from the Zello Work app.
+ * Messages are indexed from the oldest to the newest. All times are in milliseconds since the epoch.
+ * They are measured with a monotonic clock that is aligned with the wall clock once, when the first message is recorded,
+ * so the durations and the order of the messages are not affected by later changes of the device time.
+ * </p>
+ * <p>
+ * To use, get a copy of the current timeline using {@link Zello#getMessageTimeline(MessageTimeline)}.
+ * To refresh a timeline without allocating, pass the previously returned copy to the same method.
+ * </p>
+ */
+@SuppressWarnings({"WeakerAccess", "unused"})
+public class MessageTimeline {
+
+	//region Public Constants
+
+	/**
+	 * The maximum number of messages in the timeline.
+	 */
+	public static final int CAPACITY = 500;
+
+	//endregion
+
+	//region Private Properties
+
+	private static final byte FLAG_INCOMING = 1;
+	private static final byte FLAG_CONNECTING = 2;
+
+	private static final ContactType[] _contactTypes = ContactType.values();
+
+	private final @NonNull long[] _startTimes = new long[CAPACITY];
+	private final @NonNull long[] _endTimes = new long[CAPACITY]; // 0 while the message is active
+	private final @NonNull byte[] _flags = new byte[CAPACITY]; // FLAG_INCOMING, FLAG_CONNECTING
+	private final @NonNull byte[] _types = new byte[CAPACITY]; // ContactType ordinals
+	private final @NonNull String[] _contactNames = new String[CAPACITY]; // Interned
+	private final @NonNull String[] _authorNames = new String[CAPACITY]; // Interned
+	private long _total; // Number of messages ever recorded; message n is stored at n % CAPACITY
+	private long _in = -1; // Number of the active incoming message, -1 if none
+	private long _out = -1; // Number of the active outgoing message, -1 if none
+	private boolean _clockSet;
+	private long _clockEpoch; // Wall time of _clockOrigin in milliseconds
+	private long _clockOrigin; // Monotonic time in LatencyStats.now() units
+
+	//endregion
+
+	//region Package Private Methods
+
+	MessageTimeline() {
+	}
+
+	/**
+	 * Record the changes of the message state.
+	 *
+	 * @param time Time of the state in {@link LatencyStats#now()} units.
+	 */
+	synchronized void onMessageState(@NonNull MessageIn messageIn, @NonNull MessageOut messageOut, long time) {
+		long now = toWallTime(time);
+		if (_out >= 0 && (!messageOut._active || !isSameContact(_out, messageOut._to, null))) {
+			end(_out, now);
+			_out = -1;
+		}
+		if (messageOut._active) {
+			if (_out < 0) {
+				_out = begin(false, messageOut._to, null, messageOut._connecting, now);
+			} else if (!messageOut._connecting && isLive(_out)) {
+				_flags[slot(_out)] &= ~FLAG_CONNECTING;
+			}
+		}
+		// A different author in the same channel starts a new message
+		if (_in >= 0 && (!messageIn._active || !isSameContact(_in, messageIn._from, messageIn._author._name))) {
+			end(_in, now);
+			_in = -1;
+		}
+		if (messageIn._active && _in < 0) {
+			_in = begin(true, messageIn._from, messageIn._author._name, false, now);
+		}
+	}
+
+	synchronized void copyTo(@NonNull MessageTimeline timeline) {
+		System.arraycopy(_startTimes, 0, timeline._startTimes, 0, CAPACITY);
+		System.arraycopy(_endTimes, 0, timeline._endTimes, 0, CAPACITY);
+		System.arraycopy(_flags, 0, timeline._flags, 0, CAPACITY);
+		System.arraycopy(_types, 0, timeline._types, 0, CAPACITY);
+		System.arraycopy(_contactNames, 0, timeline._contactNames, 0, CAPACITY);
+		System.arraycopy(_authorNames, 0, timeline._authorNames, 0, CAPACITY);
+		timeline._total = _total;
+		timeline._in = _in;
+		timeline._out = _out;
+	}
+
+	//endregion
+
+	//region Public Methods
+
+	/**
+	 * Returns the number of messages in the timeline.
+	 *
+	 * @return Number of messages, up to {@link #CAPACITY}.
+	 */
+	public int getCount() {
+		return (int) Math.min(_total, CAPACITY);
+	}
+
+	/**
+	 * Determines if a message was received or sent by the user.
+	 *
+	 * @param index Index of the message, between <code>0</code> and <code>getCount() - 1</code>.
+	 * @return boolean indicating that the message is incoming.
+	 */
+	public boolean isIncoming(int index) {
+		return (_flags[at(index)] & FLAG_INCOMING) != 0;
+	}
+
+	/**
+	 * Returns the name of the contact that the message was received from or sent to.
+	 * For channels, groups and conversations, this is the name of the channel, the group or the conversation.
+	 *
+	 * @param index Index of the message, between <code>0</code> and <code>getCount() - 1</code>.
+	 * @return Nullable; The name of the contact.
+	 * @see MessageIn#getFrom()
+	 * @see MessageOut#getTo()
+	 */
+	public @Nullable String getContactName(int index) {
+		return _contactNames[at(index)];
+	}
+
+	/**
+	 * Returns the name of the user that sent an incoming message to a channel, a group or a conversation.
+	 *
+	 * @param index Index of the message, between <code>0</code> and <code>getCount() - 1</code>.
+	 * @return Nullable; The name of the author or null for outgoing messages and messages from users.
+	 * @see MessageIn#getAuthor()
+	 */
+	public @Nullable String getAuthorName(int index) {
+		return _authorNames[at(index)];
+	}
+
+	/**
+	 * Returns the type of the contact that the message was received from or sent to.
+	 *
+	 * @param index Index of the message, between <code>0</code> and <code>getCount() - 1</code>.
+	 * @return The type of the contact.
+	 */
+	public @NonNull ContactType getContactType(int index) {
+		return _contactTypes[_types[at(index)]];
+	}
+
+	/**
+	 * Returns the time when the message started.
+	 *
+	 * @param index Index of the message, between <code>0</code> and <code>getCount() - 1</code>.
+	 * @return Time in milliseconds since the epoch.
+	 */
+	public long getStartTime(int index) {
+		return _startTimes[at(index)];
+	}
+
+	/**
+	 * Returns the time when the message ended.
+	 *
+	 * @param index Index of the message, between <code>0</code> and <code>getCount() - 1</code>.
+	 * @return Time in milliseconds since the epoch or 0 if the message is still active.
+	 */
+	public long getEndTime(int index) {
+		return _endTimes[at(index)];
+	}
+
+	/**
+	 * Determines if an outgoing message never got past connecting, because it ended or failed before it was connected,
+	 * or is still connecting.
+	 *
+	 * @param index Index of the message, between <code>0</code> and <code>getCount() - 1</code>.
+	 * @return boolean indicating that the message was still connecting.
+	 * @see MessageOut#isConnecting()
+	 */
+	public boolean isConnecting(int index) {
+		return (_flags[at(index)] & FLAG_CONNECTING) != 0;
+	}
+
+	/**
+	 * Returns the index of the first message that started at or after the specified time.
+	 *
+	 * @param time Time in milliseconds since the epoch.
+	 * @return Index of the message or {@link #getCount()} if all messages started earlier.
+	 */
+	public int indexOf(long time) {
+		int low = 0;
+		int high = getCount();
+		while (low < high) {
+			int middle = (low + high) >>> 1;
+			if (_startTimes[at(middle)] < time) {
+				low = middle + 1;
+			} else {
+				high = middle;
+			}
+		}
+		return low;
+	}
+
+	/**
+	 * <p>
+	 * Finds the messages that started in a time range, optionally limited to a contact.
+	 * </p>
+	 * <p>
+	 * The indices are written to the provided array in chronological order, so the search doesn't allocate.
+	 * The search stops when the array is full.
+	 * </p>
+	 *
+	 * @param from        Start of the range in milliseconds since the epoch, inclusive.
+	 * @param to          End of the range in milliseconds since the epoch, exclusive.
+	 * @param contactName Nullable; The name of the contact the messages were received from or sent to, or null for all contacts.
+	 * @param indices     The array to write the indices of the found messages to.
+	 * @return The number of found messages.
+	 */
+	public int find(long from, long to, @Nullable String contactName, @NonNull int[] indices) {
+		int found = 0;
+		int count = getCount();
+		for (int i = indexOf(from); i < count && found < indices.length; ++i) {
+			int slot = at(i);
+			if (_startTimes[slot] >= to) {
+				break;
+			}
+			if (contactName == null || contactName.equals(_contactNames[slot])) {
+				indices[found++] = i;
+			}
+		}
+		return found;
+	}
+
+	//endregion
+
+	//region Private Methods
+
+	private long begin(boolean incoming, @NonNull Contact contact, @Nullable String author, boolean connecting, long time) {
+		long message = _total++;
+		int slot = slot(message);
+		if (message > 0) {
+			// Keep the start times ordered for the searches if states arrive out of order
+			time = Math.max(time, _startTimes[slot(message - 1)]);
+		}
+		_startTimes[slot] = time;
+		_endTimes[slot] = 0;
+		_flags[slot] = (byte) ((incoming ? FLAG_INCOMING : 0) | (connecting ? FLAG_CONNECTING : 0));
+		_types[slot] = (byte) contact._type.ordinal();
+		_contactNames[slot] = share(contact._name, message);
+		_authorNames[slot] = share(author, message);
+		return message;
+	}
+
+	private void end(long message, long time) {
+		if (isLive(message)) {
+			_endTimes[slot(message)] = time;
+		}
+	}
+
+	private boolean isSameContact(long message, @NonNull Contact contact, @Nullable String author) {
+		if (!isLive(message)) {
+			return false;
+		}
+		int slot = slot(message);
+		return _types[slot] == contact._type.ordinal() && Objects.equals(_contactNames[slot], contact._name) && Objects.equals(_authorNames[slot], author);
+	}
+
+	/**
+	 * Convert a monotonic time to the wall time, using the wall clock only once so that all times come from the same clock.
+	 */
+	private long toWallTime(long time) {
+		if (!_clockSet) {
+			_clockSet = true;
+			_clockEpoch = System.currentTimeMillis() - (LatencyStats.now() - time) / 1000;
+			_clockOrigin = time;
+		}
+		return _clockEpoch + (time - _clockOrigin) / 1000;
+	}
+
+	/**
+	 * Check that a message hasn't been overwritten by newer messages.
+	 */
+	private boolean isLive(long message) {
+		return message >= _total - CAPACITY;
+	}
+
+	private int at(int index) {
+		return slot(Math.max(0, _total - CAPACITY) + index);
+	}
+
+	private static int slot(long message) {
+		return (int) (message % CAPACITY);
+	}
+
+	/**
+	 * Return a shared copy of a name. The same names repeat from message to message, so the names of the previous message
+	 * are reused without interning.
+	 */
+	private @Nullable String share(@Nullable String name, long message) {
+		if (name == null) {
+			return null;
+		}
+		if (message > 0) {
+			int previous = slot(message - 1);
+			if (name.equals(_contactNames[previous])) {
+				return _contactNames[previous];
+			}
+			if (name.equals(_authorNames[previous])) {
+				return _authorNames[previous];
+			}
+		}
+		return name.intern();
+	}
+
+	//endregion
+
+}
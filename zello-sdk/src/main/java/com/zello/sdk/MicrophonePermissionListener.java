@@ -0,0 +1,23 @@
+package com.zello.sdk;
+
+/**
+ * The <code>MicrophonePermissionListener</code> interface receives failures to start messages caused by a missing microphone permission.
+ *
+ * @see Zello#addListener(ZelloListener)
+ */
+@SuppressWarnings("unused")
+public interface MicrophonePermissionListener extends ZelloListener {
+
+	/**
+	 * <p>
+	 * Called when an invocation of the {@link Zello#beginMessage()} method fails because the microphone permission hasn't been granted.
+	 * </p>
+	 * <p>
+	 * This method is invoked on the UI thread.
+	 * </p>
+	 *
+	 * @see Zello#showMicrophonePermissionDialog()
+	 */
+	void onMicrophonePermissionNotGranted();
+
+}
@@ -11,13 +11,24 @@ import android.content.IntentFilter;
 import android.content.ServiceConnection;
 import android.net.Uri;
 import android.os.Build;
+import android.os.Bundle;
 import android.os.Handler;
+import android.os.HandlerThread;
 import android.os.IBinder;
 import android.os.Message;
+import android.os.Messenger;
 
 import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.AbstractMap;
+import java.util.HashMap;
 import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.WeakHashMap;
+import java.util.concurrent.Executor;
 
+import androidx.annotation.MainThread;
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 import androidx.core.content.ContextCompat;
@@ -35,32 +46,43 @@ class Sdk implements SafeHandlerEvents, ServiceConnection {
 	private @Nullable String _preferredPackage;
 	// Package name of the app that we are currently connected to, null when not connected
 	private @Nullable String _connectedPackage;
+	// Prebuilt commands for the connected package, null when not connected
+	private volatile @Nullable CommandTemplates _commandTemplates;
 
 	private @Nullable Context _context;
 	private @Nullable SafeHandler<Sdk> _handler;
 	private boolean _resumed;
 	private final @NonNull String _activeTabAction = "com.zello.sdk." + Util.generateUuid();
-	private final @NonNull Contact _selectedContact = new Contact();
-	private final @NonNull MessageIn _messageIn = new MessageIn();
-	private final @NonNull MessageOut _messageOut = new MessageOut();
 	private @Nullable Contacts _contacts;
-	private @Nullable Audio _audio;
+	private int _contactsCoalescingWindow; // Milliseconds, 0 when contact list changes are not coalesced
+	private int _contactsCoalescingMaxLatency; // Milliseconds, 0 for no limit
+	private volatile @Nullable Audio _audio;
 	private final @NonNull AppState _appState = new AppState();
+	private volatile @NonNull ZelloState _state = new ZelloState(); // Last state reported to the listeners; only replaced on the main thread
+	private final @NonNull AppState _reportedAppState = new AppState(); // Private copy of the last reported app state that changes are computed from
+	private final @NonNull LatencyStats _latencyStats = new LatencyStats();
+	private final @NonNull MessageTimeline _messageTimeline = new MessageTimeline();
 	private boolean _serviceBound; // Service is bound
 	private @Nullable Intent _serviceIntent; // Service connect/disconnect intent
 	private boolean _serviceConnecting; // Service is bound but is still connecting
-	private @Nullable String _delayedNetwork, _delayedUsername, _delayedPassword;
-	private boolean _delayedPerishable;
-	private @Nullable Boolean _delayedShowBtAccessoriesNotifications;
+	private int _commandsVersion; // Version of the binder command protocol supported by the connected app, 0 if not supported
+	private volatile @Nullable Messenger _commandMessenger; // Binder command channel, null when commands are sent as broadcasts
+	private final @NonNull ThreadLocal<ArrayList<Intent>> _batch = new ThreadLocal<>(); // Commands captured by a CommandBatch method running on this thread
+	private volatile boolean _suppressRedundantCommands; // Drop commands that don't change the state of the app
+	private volatile long _suppressedCommandCount; // Number of commands dropped as redundant
+	private final @NonNull HashMap<String, Object> _sentValues = new HashMap<>(); // Last value sent for each setting
+	private final @NonNull WeakHashMap<Intent, Map.Entry<String, Object>> _pendingValues = new WeakHashMap<>(); // Settings of the commands that haven't been sent yet; guarded by _sentValues
+	private final @NonNull CommandQueue _commandQueue = new CommandQueue(CommandQueue.DEFAULT_CAPACITY); // Commands issued before the service connects
 	private boolean _headsetActive;
 	private boolean _lastMessageReplayAvailable;
+	private boolean _reportedLastMessageReplayAvailable; // Last value reported to the listeners
+	private boolean _appStateReported; // The app state has been reported since the SDK started connecting
 	private @Nullable BroadcastReceiver _receiverPackage; // Broadcast receiver for package install broadcasts
-	private @Nullable BroadcastReceiver _receiverAppState; // Broadcast receiver for app state broadcasts
-	private @Nullable BroadcastReceiver _receiverMessageState; // Broadcast receiver for message state broadcasts
-	private @Nullable BroadcastReceiver _receiverContactSelected; // Broadcast receiver for selected contact broadcasts
-	private @Nullable BroadcastReceiver _receiverActiveTab; // Broadcast receiver for last selected contact list tab
-	private @Nullable BroadcastReceiver _receiverPermissionErrors; // Broadcast receiver for permissions errors
-	private @Nullable BroadcastReceiver _receiverBtAccessoryState; // Broadcast receiver for bluetooth accessory state broadcasts
+	private @Nullable BroadcastReceiver _receiverState; // Broadcast receiver for all state broadcasts of the connected app
+	private boolean _backgroundParsing; // State broadcasts are parsed on a background thread; only used on the main thread
+	private @Nullable HandlerThread _parserThread; // Background thread that parses state broadcasts; only used on the main thread
+	private @Nullable Handler _parserHandler; // Handler of the parser thread; only used on the main thread
+	private int _pendingParses; // Broadcasts handed over to the parser thread and not applied yet; only used on the main thread
 
 	private static final int AWAKE_TIMER = 1;
 
@@ -109,12 +131,13 @@ class Sdk implements SafeHandlerEvents, ServiceConnection {
 			audio.close();
 		}
 		stopAwakeTimer();
+		stopParserThread();
 		_handler = null;
 		if (!_serviceConnecting) {
 			_context = null;
 		}
 		_preferredPackage = null;
-		_connectedPackage = null;
+		setConnectedPackage(null);
 		_contacts = null;
 		_audio = null;
 	}
@@ -222,24 +245,22 @@ class Sdk implements SafeHandlerEvents, ServiceConnection {
 
 	void beginMessage() {
 		Context context = _context;
-		String connectedPackage = _connectedPackage;
-		if (context == null || connectedPackage == null) {
+		CommandTemplates commands = _commandTemplates;
+		if (context == null || commands == null) {
 			return;
 		}
-		Intent intent = new Intent(connectedPackage + "." + Constants.ACTION_COMMAND);
-		intent.putExtra(Constants.EXTRA_COMMAND, Constants.VALUE_BEGIN_MESSAGE);
-		context.sendBroadcast(intent);
+		_latencyStats.onBeginMessage(LatencyStats.now());
+		sendCommand(context, commands.beginMessage, commands.beginMessageExtras);
 	}
 
 	void endMessage() {
 		Context context = _context;
-		String connectedPackage = _connectedPackage;
-		if (context == null || connectedPackage == null) {
+		CommandTemplates commands = _commandTemplates;
+		if (context == null || commands == null) {
 			return;
 		}
-		Intent intent = new Intent(connectedPackage + "." + Constants.ACTION_COMMAND);
-		intent.putExtra(Constants.EXTRA_COMMAND, Constants.VALUE_END_MESSAGE);
-		context.sendBroadcast(intent);
+		_latencyStats.onEndMessage(LatencyStats.now());
+		sendCommand(context, commands.endMessage, commands.endMessageExtras);
 	}
 
 	//endregion
@@ -252,9 +273,9 @@ class Sdk implements SafeHandlerEvents, ServiceConnection {
 		if (context == null || connectedPackage == null) {
 			return;
 		}
-		Intent intent = new Intent(connectedPackage + "." + Constants.ACTION_COMMAND);
+		Intent intent = new Intent(getCommandAction(connectedPackage));
 		intent.putExtra(Constants.EXTRA_COMMAND, Constants.VALUE_REPLAY_MESSAGE);
-		context.sendBroadcast(intent);
+		sendCommand(context, intent);
 	}
 
 	public boolean isLastMessageReplayAvailable() {
@@ -274,10 +295,14 @@ class Sdk implements SafeHandlerEvents, ServiceConnection {
 		if (channel == null || channel.isEmpty()) {
 			return;
 		}
-		Intent intent = new Intent(connectedPackage + "." + Constants.ACTION_COMMAND);
+		String setting = Constants.VALUE_CONNECT + ":" + channel;
+		if (isRedundant(setting, true, isChannelConnected(channel))) {
+			return;
+		}
+		Intent intent = new Intent(getCommandAction(connectedPackage));
 		intent.putExtra(Constants.EXTRA_COMMAND, Constants.VALUE_CONNECT);
 		intent.putExtra(Constants.EXTRA_CONTACT_NAME, channel);
-		context.sendBroadcast(intent);
+		sendSetting(context, intent, setting, true);
 	}
 
 	void disconnectChannel(@Nullable String channel) {
@@ -289,10 +314,14 @@ class Sdk implements SafeHandlerEvents, ServiceConnection {
 		if (channel == null || channel.isEmpty()) {
 			return;
 		}
-		Intent intent = new Intent(connectedPackage + "." + Constants.ACTION_COMMAND);
+		String setting = Constants.VALUE_CONNECT + ":" + channel;
+		if (isRedundant(setting, false, isChannelConnected(channel))) {
+			return;
+		}
+		Intent intent = new Intent(getCommandAction(connectedPackage));
 		intent.putExtra(Constants.EXTRA_COMMAND, Constants.VALUE_DISCONNECT);
 		intent.putExtra(Constants.EXTRA_CONTACT_NAME, channel);
-		context.sendBroadcast(intent);
+		sendSetting(context, intent, setting, false);
 	}
 
 	//endregion
@@ -309,11 +338,15 @@ class Sdk implements SafeHandlerEvents, ServiceConnection {
 			return;
 		}
 		ContactType type = contact.getType();
-		Intent intent = new Intent(connectedPackage + "." + Constants.ACTION_COMMAND);
+		String setting = Constants.VALUE_MUTE + ":" + type + ":" + contact.getName();
+		if (isRedundant(setting, mute, isContactMuted(contact.getName(), type))) {
+			return;
+		}
+		Intent intent = new Intent(getCommandAction(connectedPackage));
 		intent.putExtra(Constants.EXTRA_COMMAND, mute ? Constants.VALUE_MUTE : Constants.VALUE_UNMUTE);
 		intent.putExtra(Constants.EXTRA_CONTACT_NAME, contact.getName());
 		intent.putExtra(Constants.EXTRA_CONTACT_TYPE, type == ContactType.CHANNEL || type == ContactType.GROUP || type == ContactType.CONVERSATION ? 1 : 0);
-		context.sendBroadcast(intent);
+		sendSetting(context, intent, setting, mute);
 	}
 
 	//endregion
@@ -334,13 +367,13 @@ class Sdk implements SafeHandlerEvents, ServiceConnection {
 			if (context == null || connectedPackage == null) {
 				return false;
 			}
-			Intent intent = new Intent(connectedPackage + "." + Constants.ACTION_COMMAND);
+			Intent intent = new Intent(getCommandAction(connectedPackage));
 			intent.putExtra(Constants.EXTRA_COMMAND, Constants.VALUE_SIGN_IN);
 			intent.putExtra(Constants.EXTRA_NETWORK_URL, network);
 			intent.putExtra(Constants.EXTRA_USERNAME, username);
 			intent.putExtra(Constants.EXTRA_PASSWORD, md5(password));
 			intent.putExtra(Constants.EXTRA_PERISHABLE, perishable);
-			context.sendBroadcast(intent);
+			sendCommand(context, intent);
 			// Service intent in guaranteed to be non-null at this point
 			if (_serviceIntent != null) {
 				try {
@@ -355,18 +388,20 @@ class Sdk implements SafeHandlerEvents, ServiceConnection {
 			return true;
 		}
 		if (_serviceBound) {
-			_delayedNetwork = network;
-			_delayedUsername = username;
-			_delayedPassword = password;
-			_delayedPerishable = perishable;
-			return true;
+			// Signed in when the service connects
+			Intent intent = new Intent();
+			intent.putExtra(Constants.EXTRA_COMMAND, Constants.VALUE_SIGN_IN);
+			intent.putExtra(Constants.EXTRA_NETWORK_URL, network);
+			intent.putExtra(Constants.EXTRA_USERNAME, username);
+			intent.putExtra(Constants.EXTRA_PASSWORD, md5(password));
+			intent.putExtra(Constants.EXTRA_PERISHABLE, perishable);
+			return _commandQueue.add(intent);
 		}
 		return false;
 	}
 
 	void signOut() {
-		_delayedNetwork = _delayedUsername = _delayedPassword = null;
-		_delayedPerishable = false;
+		_commandQueue.remove(Constants.VALUE_SIGN_IN);
 		if (!_serviceBound) {
 			return;
 		}
@@ -375,14 +410,13 @@ class Sdk implements SafeHandlerEvents, ServiceConnection {
 		if (context == null || connectedPackage == null) {
 			return;
 		}
-		Intent intent = new Intent(connectedPackage + "." + Constants.ACTION_COMMAND);
+		Intent intent = new Intent(getCommandAction(connectedPackage));
 		intent.putExtra(Constants.EXTRA_COMMAND, Constants.VALUE_SIGN_OUT);
-		context.sendBroadcast(intent);
+		sendCommand(context, intent);
 	}
 
 	void cancel() {
-		_delayedNetwork = _delayedUsername = _delayedPassword = null;
-		_delayedPerishable = false;
+		_commandQueue.remove(Constants.VALUE_SIGN_IN);
 		if (!_serviceBound) {
 			return;
 		}
@@ -391,9 +425,9 @@ class Sdk implements SafeHandlerEvents, ServiceConnection {
 		if (context == null || connectedPackage == null) {
 			return;
 		}
-		Intent intent = new Intent(connectedPackage + "." + Constants.ACTION_COMMAND);
+		Intent intent = new Intent(getCommandAction(connectedPackage));
 		intent.putExtra(Constants.EXTRA_COMMAND, Constants.VALUE_CANCEL);
-		context.sendBroadcast(intent);
+		sendCommand(context, intent);
 	}
 
 	//endregion
@@ -404,7 +438,7 @@ class Sdk implements SafeHandlerEvents, ServiceConnection {
 		if (applicationName == null || applicationName.isEmpty()) {
 			return;
 		}
-		if (!isConnected()) {
+		if (!_serviceBound) {
 			return;
 		}
 		Context context = _context;
@@ -412,15 +446,15 @@ class Sdk implements SafeHandlerEvents, ServiceConnection {
 		if (context == null || connectedPackage == null) {
 			return;
 		}
-		Intent intent = new Intent(connectedPackage + "." + Constants.ACTION_COMMAND);
+		Intent intent = new Intent(getCommandAction(connectedPackage));
 		intent.putExtra(Constants.EXTRA_COMMAND, Constants.VALUE_LOCK);
 		intent.putExtra(Constants.EXTRA_APPLICATION, applicationName);
 		intent.putExtra(Constants.EXTRA_PACKAGE, packageName);
-		context.sendBroadcast(intent);
+		sendCommand(context, intent);
 	}
 
 	void unlock() {
-		if (!isConnected()) {
+		if (!_serviceBound) {
 			return;
 		}
 		Context context = _context;
@@ -428,9 +462,9 @@ class Sdk implements SafeHandlerEvents, ServiceConnection {
 		if (context == null || connectedPackage == null) {
 			return;
 		}
-		Intent intent = new Intent(connectedPackage + "." + Constants.ACTION_COMMAND);
+		Intent intent = new Intent(getCommandAction(connectedPackage));
 		intent.putExtra(Constants.EXTRA_COMMAND, Constants.VALUE_LOCK);
-		context.sendBroadcast(intent);
+		sendCommand(context, intent);
 	}
 
 	//endregion
@@ -446,11 +480,15 @@ class Sdk implements SafeHandlerEvents, ServiceConnection {
 		if (context == null || connectedPackage == null) {
 			return;
 		}
-		Intent intent = new Intent(connectedPackage + "." + Constants.ACTION_COMMAND);
+		AppState state = _state._appState;
+		if (isRedundant(Constants.VALUE_SET_STATUS, status, state._signedIn ? state.getStatus() : null)) {
+			return;
+		}
+		Intent intent = new Intent(getCommandAction(connectedPackage));
 		intent.putExtra(Constants.EXTRA_COMMAND, Constants.VALUE_SET_STATUS);
 		intent.putExtra(Constants.EXTRA_STATE_BUSY, status == Status.BUSY);
 		intent.putExtra(Constants.EXTRA_STATE_SOLO, status == Status.SOLO);
-		context.sendBroadcast(intent);
+		sendSetting(context, intent, Constants.VALUE_SET_STATUS, status);
 	}
 
 	void setStatusMessage(@Nullable String message) {
@@ -462,10 +500,15 @@ class Sdk implements SafeHandlerEvents, ServiceConnection {
 		if (context == null || connectedPackage == null) {
 			return;
 		}
-		Intent intent = new Intent(connectedPackage + "." + Constants.ACTION_COMMAND);
+		AppState state = _state._appState;
+		String setting = Constants.VALUE_SET_STATUS + ":message";
+		if (isRedundant(setting, Util.emptyIfNull(message), state._signedIn ? Util.emptyIfNull(state._statusMessage) : null)) {
+			return;
+		}
+		Intent intent = new Intent(getCommandAction(connectedPackage));
 		intent.putExtra(Constants.EXTRA_COMMAND, Constants.VALUE_SET_STATUS);
 		intent.putExtra(Constants.EXTRA_STATE_STATUS_MESSAGE, Util.emptyIfNull(message));
-		context.sendBroadcast(intent);
+		sendSetting(context, intent, setting, Util.emptyIfNull(message));
 	}
 
 	//endregion
@@ -508,28 +551,98 @@ class Sdk implements SafeHandlerEvents, ServiceConnection {
 
 	//endregion
 
+	//region Batches
+
+	void batch(@NonNull CommandBatchBuilder builder) {
+		CommandBatch batch = new CommandBatch(this);
+		try {
+			builder.build(batch);
+		} finally {
+			// Whatever was built is sent even if the builder fails
+			ArrayList<Intent> commands = batch.getCommands();
+			Context context = _context;
+			if (context != null && !commands.isEmpty()) {
+				sendCommands(context, commands);
+			}
+		}
+	}
+
+	/**
+	 * Run a command method and collect the commands it sends instead of sending them.
+	 * Only the commands of this thread are collected, so other threads and callbacks are never affected.
+	 */
+	void capture(@NonNull ArrayList<Intent> commands, @NonNull Runnable command) {
+		ArrayList<Intent> previous = _batch.get();
+		_batch.set(commands);
+		try {
+			command.run();
+		} finally {
+			if (previous != null) {
+				_batch.set(previous);
+			} else {
+				_batch.remove();
+			}
+		}
+	}
+
+	//endregion
+
 	//region Getters
 
+	@NonNull ZelloState getState() {
+		return _state;
+	}
+
 	void getMessageIn(@Nullable MessageIn message) {
-		_messageIn.copyTo(message);
+		_state._messageIn.copyTo(message);
 	}
 
 	void getMessageOut(@Nullable MessageOut message) {
-		_messageOut.copyTo(message);
+		_state._messageOut.copyTo(message);
 	}
 
 	void getAppState(@Nullable AppState state) {
-		_appState.copyTo(state);
+		_state._appState.copyTo(state);
 	}
 
 	void getSelectedContact(@Nullable Contact contact) {
-		_selectedContact.copyTo(contact);
+		_state._selectedContact.copyTo(contact);
 	}
 
 	@Nullable Contacts getContacts() {
 		return _contacts;
 	}
 
+	@Nullable Contacts getContacts(@Nullable ContactsQuery query) {
+		Contacts contacts = _contacts;
+		return contacts != null && query != null ? contacts.getView(query) : contacts;
+	}
+
+	void getContactsAsync(@Nullable ContactsQuery query, @NonNull Executor executor, @NonNull ContactsCallback callback) {
+		Contacts contacts = getContacts(query);
+		if (contacts != null) {
+			contacts.getSnapshotAsync(executor, callback);
+		} else {
+			executor.execute(() -> callback.onContactsLoaded(new ContactsSnapshot(0, 0)));
+		}
+	}
+
+	void getLatencyHistogram(@NonNull LatencyMetric metric, @NonNull ContactType type, @NonNull LatencyHistogram histogram) {
+		_latencyStats.getHistogram(metric, type, histogram);
+	}
+
+	void getMessageTimeline(@NonNull MessageTimeline timeline) {
+		_messageTimeline.copyTo(timeline);
+	}
+
+	void resetLatencyStats() {
+		_latencyStats.reset();
+	}
+
+	long getSuppressedCommandCount() {
+		return _suppressedCommandCount;
+	}
+
 	@Nullable Audio getAudio() {
 		Context context = _context;
 		String connectedPackage = _connectedPackage;
@@ -537,7 +650,7 @@ class Sdk implements SafeHandlerEvents, ServiceConnection {
 			return _audio;
 		}
 		if (_audio == null) {
-			_audio = new Audio(connectedPackage, _context);
+			_audio = new Audio(connectedPackage, _context, this);
 		}
 		return _audio;
 	}
@@ -546,19 +659,45 @@ class Sdk implements SafeHandlerEvents, ServiceConnection {
 
 	//region Setters
 
+	@MainThread
+	void setBackgroundBroadcastParsing(boolean enable) {
+		_backgroundParsing = enable;
+		if (!enable && _pendingParses == 0) {
+			// Otherwise the thread is stopped once the broadcasts that it's parsing are applied
+			stopParserThread();
+		}
+	}
+
+	void setSuppressRedundantCommands(boolean suppress) {
+		_suppressRedundantCommands = suppress;
+	}
+
+	void setContactsChangeCoalescing(int windowMs, int maxLatencyMs) {
+		_contactsCoalescingWindow = Math.max(0, windowMs);
+		_contactsCoalescingMaxLatency = Math.max(0, maxLatencyMs);
+		Contacts contacts = _contacts;
+		if (contacts != null) {
+			contacts.setChangeCoalescing(_contactsCoalescingWindow, _contactsCoalescingMaxLatency);
+		}
+	}
+
 	void setAutoRun(boolean enable) {
 		Context context = _context;
 		String connectedPackage = _connectedPackage;
 		if (context == null || connectedPackage == null) {
 			return;
 		}
-		if (!isConnected()) {
+		if (!_serviceBound) {
+			return;
+		}
+		AppState state = _state._appState;
+		if (isRedundant(Constants.VALUE_SET_AUTO_RUN, enable, state._autoRun)) {
 			return;
 		}
-		Intent intent = new Intent(connectedPackage + "." + Constants.ACTION_COMMAND);
+		Intent intent = new Intent(getCommandAction(connectedPackage));
 		intent.putExtra(Constants.EXTRA_COMMAND, Constants.VALUE_SET_AUTO_RUN);
 		intent.putExtra(Constants.EXTRA_STATE_AUTO_RUN, enable);
-		context.sendBroadcast(intent);
+		sendSetting(context, intent, Constants.VALUE_SET_AUTO_RUN, enable);
 	}
 
 	void setAutoConnectChannels(boolean connect) {
@@ -567,13 +706,17 @@ class Sdk implements SafeHandlerEvents, ServiceConnection {
 		if (context == null || connectedPackage == null) {
 			return;
 		}
-		if (!isConnected()) {
+		if (!_serviceBound) {
+			return;
+		}
+		AppState state = _state._appState;
+		if (isRedundant(Constants.VALUE_SET_AUTO_CHANNELS, connect, state._autoChannels)) {
 			return;
 		}
-		Intent intent = new Intent(connectedPackage + "." + Constants.ACTION_COMMAND);
+		Intent intent = new Intent(getCommandAction(connectedPackage));
 		intent.putExtra(Constants.EXTRA_COMMAND, Constants.VALUE_SET_AUTO_CHANNELS);
 		intent.putExtra(Constants.EXTRA_STATE_AUTO_CHANNELS, connect);
-		context.sendBroadcast(intent);
+		sendSetting(context, intent, Constants.VALUE_SET_AUTO_CHANNELS, connect);
 	}
 
 	void setExternalId(@Nullable String id) {
@@ -582,13 +725,17 @@ class Sdk implements SafeHandlerEvents, ServiceConnection {
 		if (context == null || connectedPackage == null) {
 			return;
 		}
-		if (!isConnected()) {
+		if (!_serviceBound) {
 			return;
 		}
-		Intent intent = new Intent(connectedPackage + "." + Constants.ACTION_COMMAND);
+		AppState state = _state._appState;
+		if (isRedundant(Constants.VALUE_SET_EID, Util.emptyIfNull(id), Util.emptyIfNull(state._externalId))) {
+			return;
+		}
+		Intent intent = new Intent(getCommandAction(connectedPackage));
 		intent.putExtra(Constants.EXTRA_COMMAND, Constants.VALUE_SET_EID);
 		intent.putExtra(Constants.EXTRA_EID, id == null ? "" : id);
-		context.sendBroadcast(intent);
+		sendSetting(context, intent, Constants.VALUE_SET_EID, Util.emptyIfNull(id));
 	}
 
 	void setSelectedContact(@Nullable Contact contact) {
@@ -609,8 +756,12 @@ class Sdk implements SafeHandlerEvents, ServiceConnection {
 	}
 
 	void setShowBluetoothAccessoriesNotifications(boolean show) {
+		Intent intent = new Intent();
+		intent.putExtra(Constants.EXTRA_COMMAND, Constants.VALUE_SET_SHOW_BT_ACCESSORIES_NOTIFICATIONS);
+		intent.putExtra(Constants.EXTRA_VALUE, show);
 		if (!isConnected()) {
-			_delayedShowBtAccessoriesNotifications = show;
+			// Applied when the service connects
+			_commandQueue.add(intent);
 			return;
 		}
 		Context context = _context;
@@ -618,10 +769,8 @@ class Sdk implements SafeHandlerEvents, ServiceConnection {
 		if (context == null || connectedPackage == null) {
 			return;
 		}
-		Intent intent = new Intent(connectedPackage + "." + Constants.ACTION_COMMAND);
-		intent.putExtra(Constants.EXTRA_COMMAND, Constants.VALUE_SET_SHOW_BT_ACCESSORIES_NOTIFICATIONS);
-		intent.putExtra(Constants.EXTRA_VALUE, show);
-		context.sendBroadcast(intent);
+		intent.setAction(getCommandAction(connectedPackage));
+		sendCommand(context, intent);
 	}
 
 	void setHeadsetActive(boolean active) {
@@ -637,11 +786,11 @@ class Sdk implements SafeHandlerEvents, ServiceConnection {
 		if (context == null || connectedPackage == null) {
 			return;
 		}
-		Intent intent = new Intent(connectedPackage + "." + Constants.ACTION_COMMAND);
+		Intent intent = new Intent(getCommandAction(connectedPackage));
 		intent.putExtra(Constants.EXTRA_COMMAND, Constants.VALUE_SET_HEADSET_ACTIVE);
 		intent.putExtra(Constants.EXTRA_PACKAGE, _context.getPackageName());
 		intent.putExtra(Constants.EXTRA_VALUE, _headsetActive);
-		context.sendBroadcast(intent);
+		sendCommand(context, intent);
 	}
 
 	//endregion
@@ -680,6 +829,7 @@ class Sdk implements SafeHandlerEvents, ServiceConnection {
 			return;
 		}
 		_serviceConnecting = false;
+		_commandMessenger = createCommandMessenger(service);
 		// Service intent in guaranteed to be non-null at this point
 		if (_serviceIntent != null) {
 			try {
@@ -691,15 +841,7 @@ class Sdk implements SafeHandlerEvents, ServiceConnection {
 				handleForegroundServiceException(t);
 			}
 		}
-		if (_delayedShowBtAccessoriesNotifications != null) {
-			setShowBluetoothAccessoriesNotifications(_delayedShowBtAccessoriesNotifications);
-		}
-		if (_delayedNetwork != null) {
-			signIn(_delayedNetwork, _delayedUsername, _delayedPassword, _delayedPerishable);
-		}
-		_delayedNetwork = _delayedUsername = _delayedPassword = null;
-		_delayedPerishable = false;
-		_delayedShowBtAccessoriesNotifications = null;
+		replayCommands(context);
 		// If service is not bound, the component was destroyed and the service needs to be disconnected
 		if (!_serviceBound) {
 			Log.INSTANCE.e("Disconnecting because sdk was destroyed", null);
@@ -719,6 +861,7 @@ class Sdk implements SafeHandlerEvents, ServiceConnection {
 	@Override
 	public void onServiceDisconnected(@Nullable ComponentName name) {
 		_serviceBound = false;
+		_commandMessenger = null;
 		if (_serviceConnecting) {
 			_serviceConnecting = false;
 			_appState._initializing = false;
@@ -798,109 +941,148 @@ class Sdk implements SafeHandlerEvents, ServiceConnection {
 	}
 
 	private void registerAppStateReceivers() {
-		if (_context == null) {
+		Context context = _context;
+		if (context == null || _receiverState != null) {
 			return;
 		}
-		if (_receiverAppState == null) {
-			// Register to receive app state broadcasts
-			_receiverAppState = new BroadcastReceiver() {
-				@Override
-				public void onReceive(Context context, Intent intent) {
-					updateAppState(intent);
-				}
-			};
-			IntentFilter filter = new IntentFilter(_connectedPackage + "." + Constants.ACTION_APP_STATE);
-			Intent intent = ContextCompat.registerReceiver(_context, _receiverAppState, filter, ContextCompat.RECEIVER_EXPORTED);
-			updateAppState(intent);
-			updateContacts();
-		}
-		if (_receiverPermissionErrors == null) {
-			// Register to receive app permissions broadcasts
-			_receiverPermissionErrors = new BroadcastReceiver() {
-				@Override
-				public void onReceive(Context context, Intent intent) {
-					handlePermissionError(intent);
+		// The receiver gets the current sticky broadcast of each kind right after registration
+		registerStateReceiver(context);
+		updateContacts();
+	}
+
+	/**
+	 * Register a single receiver that handles app state, permission errors, message state, selected contact,
+	 * last selected contact list tab, bluetooth accessory state and audio state broadcasts.
+	 */
+	private void registerStateReceiver(@NonNull Context context) {
+		String prefix = _connectedPackage + ".";
+		_receiverState = new BroadcastReceiver() {
+			@Override
+			public void onReceive(Context context, Intent intent) {
+				// Keep using the parser thread until it's drained so that the broadcasts are applied in order
+				if (_backgroundParsing || _pendingParses > 0) {
+					parseInBackground(prefix, intent);
+					return;
 				}
-			};
-			IntentFilter filter = new IntentFilter(_connectedPackage + "." + Constants.ACTION_PERMISSION_ERRORS);
-			ContextCompat.registerReceiver(_context, _receiverPermissionErrors, filter, ContextCompat.RECEIVER_EXPORTED);
-		}
-		if (_receiverMessageState == null) {
-			// Register to receive message state broadcasts
-			_receiverMessageState = new BroadcastReceiver() {
-				@Override
-				public void onReceive(Context context, Intent intent) {
-					updateMessageState(intent);
+				Runnable update = parseStateBroadcast(prefix, intent);
+				if (update != null) {
+					update.run();
 				}
-			};
-			IntentFilter filter = new IntentFilter(_connectedPackage + "." + Constants.ACTION_MESSAGE_STATE);
-			Intent intent = ContextCompat.registerReceiver(_context, _receiverMessageState, filter, ContextCompat.RECEIVER_EXPORTED);
-			updateMessageState(intent);
-		}
-		if (_receiverContactSelected == null) {
-			// Register to receive selected contact broadcasts
-			_receiverContactSelected = new BroadcastReceiver() {
-				@Override
-				public void onReceive(Context context, Intent intent) {
-					updateSelectedContact(intent);
+			}
+		};
+		IntentFilter filter = new IntentFilter();
+		filter.addAction(prefix + Constants.ACTION_APP_STATE);
+		filter.addAction(prefix + Constants.ACTION_PERMISSION_ERRORS);
+		filter.addAction(prefix + Constants.ACTION_MESSAGE_STATE);
+		filter.addAction(prefix + Constants.ACTION_CONTACT_SELECTED);
+		filter.addAction(prefix + Constants.ACTION_BT_ACCESSORY_STATE);
+		filter.addAction(prefix + Constants.ACTION_AUDIO_STATE);
+		filter.addAction(_activeTabAction);
+		ContextCompat.registerReceiver(context, _receiverState, filter, ContextCompat.RECEIVER_EXPORTED);
+	}
+
+	/**
+	 * Parse a state broadcast on the parser thread and apply it on the main thread.
+	 */
+	private void parseInBackground(@NonNull String prefix, @NonNull Intent intent) {
+		Handler handler = _handler;
+		if (handler == null) {
+			return;
+		}
+		Handler parser = getParserHandler();
+		++_pendingParses;
+		parser.post(() -> {
+			Runnable update = parseStateBroadcast(prefix, intent);
+			// Only the parsed state is handed over to the main thread
+			handler.post(() -> {
+				if (parser != _parserHandler) {
+					// The SDK was destroyed in the meantime
+					return;
 				}
-			};
-			IntentFilter filter = new IntentFilter(_connectedPackage + "." + Constants.ACTION_CONTACT_SELECTED);
-			Intent intent = ContextCompat.registerReceiver(_context, _receiverContactSelected, filter, ContextCompat.RECEIVER_EXPORTED);
-			updateSelectedContact(intent);
-		}
-		if (_receiverActiveTab == null) {
-			// Register to receive last selected contact list tab
-			_receiverActiveTab = new BroadcastReceiver() {
-				@Override
-				public void onReceive(Context context, Intent intent) {
-					updateSelectedTab(intent);
+				--_pendingParses;
+				if (update != null) {
+					update.run();
 				}
-			};
-			IntentFilter filter = new IntentFilter(_activeTabAction);
-			ContextCompat.registerReceiver(_context, _receiverActiveTab, filter, ContextCompat.RECEIVER_EXPORTED);
-		}
-		if (_receiverBtAccessoryState == null) {
-			// Register to receive bluetooth accessory state broadcasts
-			_receiverBtAccessoryState = new BroadcastReceiver() {
-				@Override
-				public void onReceive(Context context, Intent intent) {
-					handleBtAccessoryState(intent);
+				if (!_backgroundParsing && _pendingParses == 0) {
+					stopParserThread();
 				}
-			};
-			IntentFilter filter = new IntentFilter(_connectedPackage + "." + Constants.ACTION_BT_ACCESSORY_STATE);
-			ContextCompat.registerReceiver(_context, _receiverBtAccessoryState, filter, ContextCompat.RECEIVER_EXPORTED);
-		}
+			});
+		});
 	}
 
 	private void unregisterAppStateReceivers() {
-		if (_context == null) {
+		Context context = _context;
+		if (context == null) {
 			return;
 		}
-		if (_receiverAppState != null) {
-			_context.unregisterReceiver(_receiverAppState);
-			_receiverAppState = null;
+		if (_receiverState != null) {
+			context.unregisterReceiver(_receiverState);
+			_receiverState = null;
+		}
+	}
+
+	private @NonNull Handler getParserHandler() {
+		Handler handler = _parserHandler;
+		if (handler == null) {
+			HandlerThread thread = new HandlerThread("Zello SDK broadcasts");
+			thread.start();
+			_parserThread = thread;
+			handler = new Handler(thread.getLooper());
+			_parserHandler = handler;
 		}
-		if (_receiverPermissionErrors != null) {
-			_context.unregisterReceiver(_receiverPermissionErrors);
-			_receiverPermissionErrors = null;
+		return handler;
+	}
+
+	private void stopParserThread() {
+		HandlerThread thread = _parserThread;
+		if (thread != null) {
+			thread.quitSafely();
 		}
-		if (_receiverMessageState != null) {
-			_context.unregisterReceiver(_receiverMessageState);
-			_receiverMessageState = null;
+		_parserThread = null;
+		_parserHandler = null;
+		_pendingParses = 0;
+	}
+
+	/**
+	 * Read a state broadcast of the connected app; may be called on any thread.
+	 *
+	 * @return Runnable that applies the state on the main thread and notifies the listeners, null if there is nothing to apply.
+	 */
+	private @Nullable Runnable parseStateBroadcast(@NonNull String prefix, @Nullable Intent intent) {
+		String action = intent != null ? intent.getAction() : null;
+		if (action == null) {
+			return null;
 		}
-		if (_receiverContactSelected != null) {
-			_context.unregisterReceiver(_receiverContactSelected);
-			_receiverContactSelected = null;
+		if (action.equals(_activeTabAction)) {
+			return () -> updateSelectedTab(intent);
 		}
-		if (_receiverActiveTab != null) {
-			_context.unregisterReceiver(_receiverActiveTab);
-			_receiverActiveTab = null;
+		if (!action.startsWith(prefix)) {
+			return null;
 		}
-		if (_receiverBtAccessoryState != null) {
-			_context.unregisterReceiver(_receiverBtAccessoryState);
-			_receiverBtAccessoryState = null;
+		return switch (action.substring(prefix.length())) {
+			case Constants.ACTION_APP_STATE -> parseAppState(intent);
+			case Constants.ACTION_PERMISSION_ERRORS -> () -> handlePermissionError(intent);
+			case Constants.ACTION_MESSAGE_STATE -> parseMessageState(intent);
+			case Constants.ACTION_CONTACT_SELECTED -> parseSelectedContact(intent);
+			case Constants.ACTION_BT_ACCESSORY_STATE -> () -> handleBtAccessoryState(intent);
+			case Constants.ACTION_AUDIO_STATE -> {
+				Audio audio = _audio;
+				yield audio != null ? audio.parseAudioState(intent) : null;
+			}
+			default -> null;
+		};
+	}
+
+	/**
+	 * Get the last sticky broadcast without registering a receiver.
+	 */
+	static @Nullable Intent getStickyBroadcast(@NonNull Context context, @NonNull String action) {
+		try {
+			return ContextCompat.registerReceiver(context, null, new IntentFilter(action), ContextCompat.RECEIVER_EXPORTED);
+		} catch (Throwable t) {
+			Log.INSTANCE.e("Error in Sdk.getStickyBroadcast", t);
 		}
+		return null;
 	}
 
 	/**
@@ -914,6 +1096,208 @@ class Sdk implements SafeHandlerEvents, ServiceConnection {
 		return !Util.samePackageNames(_connectedPackage, preferredApp != null ? preferredApp.packageName : null);
 	}
 
+	/**
+	 * Deliver a command to the connected app.
+	 * Apps that declare support for binder commands receive the extras directly through the bound service;
+	 * broadcasts are used for older apps and whenever the binder call fails.
+	 */
+	boolean sendCommand(@NonNull Context context, @NonNull Intent intent) {
+		return sendCommand(context, intent, null);
+	}
+
+	/**
+	 * Deliver a command with extras that were prepared in advance, or with the extras of the intent when null.
+	 *
+	 * @return true if the command was sent, false if it was added to a batch or queued until the service connects.
+	 */
+	private boolean sendCommand(@NonNull Context context, @NonNull Intent intent, @Nullable Bundle extras) {
+		ArrayList<Intent> batch = _batch.get();
+		if (batch != null) {
+			batch.add(intent);
+			return false;
+		}
+		if (_serviceConnecting && _commandQueue.add(intent)) {
+			// Replayed when the service connects
+			return false;
+		}
+		Messenger messenger = _commandMessenger;
+		if (messenger != null) {
+			Message message = Message.obtain(null, Constants.MESSAGE_COMMAND);
+			message.arg1 = _commandsVersion;
+			message.setData(extras != null ? extras : intent.getExtras());
+			try {
+				messenger.send(message);
+				if (extras == null) {
+					onCommandSent(intent);
+				}
+				return true;
+			} catch (Throwable t) {
+				Log.INSTANCE.e("Failed to send a command to the service, switching to broadcasts", t);
+				_commandMessenger = null;
+			}
+		}
+		context.sendBroadcast(intent);
+		if (extras == null) {
+			// Prebuilt commands don't change any settings
+			onCommandSent(intent);
+		}
+		return true;
+	}
+
+	/**
+	 * Send a command that changes a setting. The value is only remembered once the command is actually sent,
+	 * so a command that is dropped from the queue never counts as sent.
+	 */
+	private void sendSetting(@NonNull Context context, @NonNull Intent intent, @NonNull String setting, @NonNull Object value) {
+		synchronized (_sentValues) {
+			_pendingValues.put(intent, new AbstractMap.SimpleImmutableEntry<>(setting, value));
+		}
+		sendCommand(context, intent);
+	}
+
+	private void onCommandSent(@NonNull Intent intent) {
+		synchronized (_sentValues) {
+			Map.Entry<String, Object> value = _pendingValues.remove(intent);
+			if (value != null) {
+				_sentValues.put(value.getKey(), value.getValue());
+			}
+		}
+	}
+
+	/**
+	 * Check if a command would leave the app in the state it already reports, and no other command that changes the setting
+	 * is still being applied. The values of the commands that aren't redundant are remembered by {@link #sendSetting}.
+	 *
+	 * @param current Value reported by the app, null when unknown. Read it from the published state:
+	 *                the working <code>_appState</code> is reset and refilled on the main thread while commands can come from any thread.
+	 */
+	private boolean isRedundant(@NonNull String setting, @NonNull Object value, @Nullable Object current) {
+		synchronized (_sentValues) {
+			if (_suppressRedundantCommands && current != null && isConnected() && value.equals(current)) {
+				Object sent = _sentValues.get(setting);
+				if ((sent == null || sent.equals(value)) && !isPending(setting)) {
+					++_suppressedCommandCount;
+					return true;
+				}
+			}
+			return false;
+		}
+	}
+
+	/**
+	 * Check if a command that changes a setting is in a batch or in the queue and hasn't been sent yet.
+	 */
+	private boolean isPending(@NonNull String setting) {
+		for (Map.Entry<String, Object> value : _pendingValues.values()) {
+			if (setting.equals(value.getKey())) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Get the connection state of a channel from the contact list, when it's loaded.
+	 */
+	private @Nullable Boolean isChannelConnected(@NonNull String channel) {
+		Contacts contacts = _contacts;
+		ContactsSnapshot snapshot = contacts != null ? contacts.getLoadedSnapshot() : null;
+		int index = snapshot != null ? snapshot.indexOf(channel, ContactType.CHANNEL) : -1;
+		if (index < 0) {
+			return null;
+		}
+		return switch (snapshot.getStatus(index)) {
+			case AVAILABLE -> true;
+			case OFFLINE -> false;
+			default -> null; // Still connecting or in an unexpected state
+		};
+	}
+
+	/**
+	 * Get the mute state of a contact from the contact list, when it's loaded.
+	 */
+	private @Nullable Boolean isContactMuted(@Nullable String name, @NonNull ContactType type) {
+		Contacts contacts = _contacts;
+		ContactsSnapshot snapshot = contacts != null ? contacts.getLoadedSnapshot() : null;
+		int index = snapshot != null ? snapshot.indexOf(name, type) : -1;
+		return index >= 0 ? snapshot.getMuted(index) : null;
+	}
+
+	private void setConnectedPackage(@Nullable String connectedPackage) {
+		if (!Objects.equals(_connectedPackage, connectedPackage)) {
+			// Queued commands were meant for the previous app
+			_commandQueue.clear();
+		}
+		_connectedPackage = connectedPackage;
+		_commandTemplates = connectedPackage != null ? new CommandTemplates(connectedPackage) : null;
+		synchronized (_sentValues) {
+			_sentValues.clear();
+			_pendingValues.clear();
+		}
+	}
+
+	private @NonNull String getCommandAction(@NonNull String connectedPackage) {
+		CommandTemplates commands = _commandTemplates;
+		return commands != null && commands.packageName.equals(connectedPackage) ? commands.action : connectedPackage + "." + Constants.ACTION_COMMAND;
+	}
+
+	/**
+	 * Send the commands that were issued before the service connected.
+	 */
+	private void replayCommands(@NonNull Context context) {
+		String connectedPackage = _connectedPackage;
+		if (connectedPackage == null) {
+			return;
+		}
+		ArrayList<Intent> commands = _commandQueue.drain();
+		String action = getCommandAction(connectedPackage);
+		for (Intent intent : commands) {
+			intent.setAction(action);
+		}
+		sendCommands(context, commands);
+	}
+
+	/**
+	 * Deliver the commands of a batch in order.
+	 * Apps that support batches receive all commands as a single command; older apps receive them one by one.
+	 */
+	private void sendCommands(@NonNull Context context, @NonNull ArrayList<Intent> intents) {
+		if (intents.size() < 2 || _commandsVersion < Constants.COMMANDS_VERSION_BATCH || _serviceConnecting) {
+			for (Intent intent : intents) {
+				sendCommand(context, intent);
+			}
+			return;
+		}
+		ArrayList<Bundle> commands = new ArrayList<>(intents.size());
+		for (Intent intent : intents) {
+			Bundle extras = intent.getExtras();
+			commands.add(extras != null ? extras : new Bundle());
+		}
+		Intent intent = new Intent(intents.get(0).getAction());
+		intent.putExtra(Constants.EXTRA_COMMAND, Constants.VALUE_BATCH);
+		intent.putParcelableArrayListExtra(Constants.EXTRA_COMMANDS, commands);
+		if (sendCommand(context, intent)) {
+			for (Intent command : intents) {
+				onCommandSent(command);
+			}
+		}
+	}
+
+	private @Nullable Messenger createCommandMessenger(@Nullable IBinder service) {
+		if (service == null || _commandsVersion < Constants.COMMANDS_VERSION) {
+			return null;
+		}
+		try {
+			// Binder returned by the service must belong to a Messenger
+			if (Constants.MESSENGER_DESCRIPTOR.equals(service.getInterfaceDescriptor())) {
+				return new Messenger(service);
+			}
+		} catch (Throwable t) {
+			Log.INSTANCE.e("Error in Sdk.createCommandMessenger", t);
+		}
+		return null;
+	}
+
 	private void selectContact(int type, @Nullable String name) {
 		Context context = _context;
 		if (context == null) {
@@ -923,13 +1307,13 @@ class Sdk implements SafeHandlerEvents, ServiceConnection {
 		if (connectedPackage == null) {
 			return;
 		}
-		Intent intent = new Intent(_connectedPackage + "." + Constants.ACTION_COMMAND);
+		Intent intent = new Intent(getCommandAction(connectedPackage));
 		intent.putExtra(Constants.EXTRA_COMMAND, Constants.VALUE_SELECT_CONTACT);
 		if (name != null && name.length() > 0) {
 			intent.putExtra(Constants.EXTRA_CONTACT_NAME, name);
 			intent.putExtra(Constants.EXTRA_CONTACT_TYPE, type);
 		}
-		context.sendBroadcast(intent);
+		sendCommand(context, intent);
 	}
 
 	private void sendStayAwake() {
@@ -944,9 +1328,9 @@ class Sdk implements SafeHandlerEvents, ServiceConnection {
 		if (connectedPackage == null) {
 			return;
 		}
-		Intent intent = new Intent(_connectedPackage + "." + Constants.ACTION_COMMAND);
+		Intent intent = new Intent(getCommandAction(connectedPackage));
 		intent.putExtra(Constants.EXTRA_COMMAND, Constants.VALUE_STAY_AWAKE);
-		context.sendBroadcast(intent);
+		sendCommand(context, intent);
 	}
 
 	private void connect() {
@@ -957,6 +1341,7 @@ class Sdk implements SafeHandlerEvents, ServiceConnection {
 		if (context == null) {
 			return;
 		}
+		_appStateReported = false;
 		AppInfo packageInfo = Util.findAppInfo(_context, _preferredPackage);
 		if (packageInfo == null) {
 			// A compatible package wasn't found
@@ -969,7 +1354,9 @@ class Sdk implements SafeHandlerEvents, ServiceConnection {
 		_serviceConnecting = true;
 		_appState._initializing = true;
 		_appState._error = false;
-		_connectedPackage = packageInfo.packageName;
+		setConnectedPackage(packageInfo.packageName);
+		_commandsVersion = packageInfo.commandsVersion;
+		_commandMessenger = null;
 		fireAppStateChanged();
 
 		_serviceIntent = new Intent();
@@ -984,11 +1371,13 @@ class Sdk implements SafeHandlerEvents, ServiceConnection {
 
 		if (!_serviceBound) {
 			_appState._error = true;
-			_connectedPackage = null;
+			setConnectedPackage(null);
 			try {
 				context.unbindService(this);
 			} catch (Throwable ignored) {
 			}
+			_appState._initializing = false;
+			fireAppStateChanged();
 		}
 		if (_serviceConnecting) {
 			_appState._initializing = false;
@@ -1007,8 +1396,8 @@ class Sdk implements SafeHandlerEvents, ServiceConnection {
 
 	private void disconnect() {
 		unregisterAppStateReceivers();
-		_delayedNetwork = _delayedUsername = _delayedPassword = null;
-		_delayedPerishable = false;
+		_commandMessenger = null;
+		_commandQueue.remove(Constants.VALUE_SIGN_IN);
 		if (!_serviceBound) {
 			return;
 		}
@@ -1060,88 +1449,128 @@ class Sdk implements SafeHandlerEvents, ServiceConnection {
 	}
 
 	private void updateAppState(@Nullable Intent intent) {
+		parseAppState(intent).run();
+	}
+
+	/**
+	 * Read an app state broadcast; the returned runnable applies the state and notifies the listeners.
+	 */
+	private @NonNull Runnable parseAppState(@Nullable Intent intent) {
+		if (intent == null) {
+			return () -> applyAppState(null, false);
+		}
+		AppState state = new AppState();
+		state._customBuild = intent.getBooleanExtra(Constants.EXTRA_STATE_CUSTOM_BUILD, false);
+		state._configuring = intent.getBooleanExtra(Constants.EXTRA_STATE_CONFIGURING, false);
+		state._locked = intent.getBooleanExtra(Constants.EXTRA_STATE_LOCKED, false);
+		state._signedIn = intent.getBooleanExtra(Constants.EXTRA_STATE_SIGNED_IN, false);
+		state._signingIn = intent.getBooleanExtra(Constants.EXTRA_STATE_SIGNING_IN, false);
+		state._signingOut = intent.getBooleanExtra(Constants.EXTRA_STATE_SIGNING_OUT, false);
+		state._cancelling = intent.getBooleanExtra(Constants.EXTRA_STATE_CANCELLING_SIGNIN, false);
+		state._reconnectTimer = intent.getIntExtra(Constants.EXTRA_STATE_RECONNECT_TIMER, -1);
+		state._waitingForNetwork = intent.getBooleanExtra(Constants.EXTRA_STATE_WAITING_FOR_NETWORK, false);
+		state._showContacts = intent.getBooleanExtra(Constants.EXTRA_STATE_SHOW_CONTACTS, false);
+		state._busy = intent.getBooleanExtra(Constants.EXTRA_STATE_BUSY, false);
+		state._solo = intent.getBooleanExtra(Constants.EXTRA_STATE_SOLO, false);
+		state._autoRun = intent.getBooleanExtra(Constants.EXTRA_STATE_AUTO_RUN, false);
+		state._autoChannels = intent.getBooleanExtra(Constants.EXTRA_STATE_AUTO_CHANNELS, true);
+		state._statusMessage = intent.getStringExtra(Constants.EXTRA_STATE_STATUS_MESSAGE);
+		state._network = intent.getStringExtra(Constants.EXTRA_STATE_NETWORK);
+		state._networkUrl = intent.getStringExtra(Constants.EXTRA_STATE_NETWORK_URL);
+		state._username = intent.getStringExtra(Constants.EXTRA_STATE_USERNAME);
+		state._lastError = intToError(intent.getIntExtra(Constants.EXTRA_STATE_LAST_ERROR, Error.NONE.ordinal()));
+		state._externalId = intent.getStringExtra(Constants.EXTRA_EID);
+		boolean replayAvailable = intent.getBooleanExtra(Constants.EXTRA_LAST_MESSAGE_REPLAY_AVAILABLE, false);
+		return () -> applyAppState(state, replayAvailable);
+	}
+
+	private void applyAppState(@Nullable AppState state, boolean replayAvailable) {
 		_appState.reset();
-		if (intent != null) {
-			updateLastMessageReplayAvailable(intent);
-
-			_appState._customBuild = intent.getBooleanExtra(Constants.EXTRA_STATE_CUSTOM_BUILD, false);
-			_appState._configuring = intent.getBooleanExtra(Constants.EXTRA_STATE_CONFIGURING, false);
-			_appState._locked = intent.getBooleanExtra(Constants.EXTRA_STATE_LOCKED, false);
-			_appState._signedIn = intent.getBooleanExtra(Constants.EXTRA_STATE_SIGNED_IN, false);
-			_appState._signingIn = intent.getBooleanExtra(Constants.EXTRA_STATE_SIGNING_IN, false);
-			_appState._signingOut = intent.getBooleanExtra(Constants.EXTRA_STATE_SIGNING_OUT, false);
-			_appState._cancelling = intent.getBooleanExtra(Constants.EXTRA_STATE_CANCELLING_SIGNIN, false);
-			_appState._reconnectTimer = intent.getIntExtra(Constants.EXTRA_STATE_RECONNECT_TIMER, -1);
-			_appState._waitingForNetwork = intent.getBooleanExtra(Constants.EXTRA_STATE_WAITING_FOR_NETWORK, false);
-			_appState._showContacts = intent.getBooleanExtra(Constants.EXTRA_STATE_SHOW_CONTACTS, false);
-			_appState._busy = intent.getBooleanExtra(Constants.EXTRA_STATE_BUSY, false);
-			_appState._solo = intent.getBooleanExtra(Constants.EXTRA_STATE_SOLO, false);
-			_appState._autoRun = intent.getBooleanExtra(Constants.EXTRA_STATE_AUTO_RUN, false);
-			_appState._autoChannels = intent.getBooleanExtra(Constants.EXTRA_STATE_AUTO_CHANNELS, true);
-			_appState._statusMessage = intent.getStringExtra(Constants.EXTRA_STATE_STATUS_MESSAGE);
-			_appState._network = intent.getStringExtra(Constants.EXTRA_STATE_NETWORK);
-			_appState._networkUrl = intent.getStringExtra(Constants.EXTRA_STATE_NETWORK_URL);
-			_appState._username = intent.getStringExtra(Constants.EXTRA_STATE_USERNAME);
-			_appState._lastError = intToError(intent.getIntExtra(Constants.EXTRA_STATE_LAST_ERROR, Error.NONE.ordinal()));
-			_appState._externalId = intent.getStringExtra(Constants.EXTRA_EID);
+		if (state != null) {
+			_lastMessageReplayAvailable = replayAvailable;
+			state.copyReportedTo(_appState);
 		}
-		fireAppStateChanged();
+		int mask = fireAppStateChanged();
+		updateContactsCache(mask);
 	}
 
-	private void updateMessageState(@Nullable Intent intent) {
-		boolean out = false;
-		boolean in = false;
-		if (intent != null) {
-			updateLastMessageReplayAvailable(intent);
-
-			out = intent.getBooleanExtra(Constants.EXTRA_MESSAGE_OUT, false);
-			in = !out && intent.getBooleanExtra(Constants.EXTRA_MESSAGE_IN, false);
-			if (out) {
-				_messageOut._to._name = intent.getStringExtra(Constants.EXTRA_CONTACT_NAME);
-				_messageOut._to._fullName = intent.getStringExtra(Constants.EXTRA_CONTACT_FULL_NAME);
-				_messageOut._to._displayName = intent.getStringExtra(Constants.EXTRA_CONTACT_DISPLAY_NAME);
-				_messageOut._to._type = intToContactType(intent.getIntExtra(Constants.EXTRA_CONTACT_TYPE, -1));
-				_messageOut._to._status = intToContactStatus(intent.getIntExtra(Constants.EXTRA_CONTACT_STATUS, 0));
-				_messageOut._to._statusMessage = intent.getStringExtra(Constants.EXTRA_CONTACT_STATUS_MESSAGE);
-				_messageOut._to._usersCount = intent.getIntExtra(Constants.EXTRA_CHANNEL_USERS_COUNT, 0);
-				_messageOut._to._usersTotal = intent.getIntExtra(Constants.EXTRA_CHANNEL_USERS_TOTAL, 0);
-				_messageOut._active = true;
-				_messageOut._connecting = intent.getBooleanExtra(Constants.EXTRA_MESSAGE_CONNECTING, false);
-			}
-			if (in) {
-				_messageIn._from._name = intent.getStringExtra(Constants.EXTRA_CONTACT_NAME);
-				_messageIn._from._fullName = intent.getStringExtra(Constants.EXTRA_CONTACT_FULL_NAME);
-				_messageIn._from._displayName = intent.getStringExtra(Constants.EXTRA_CONTACT_DISPLAY_NAME);
-				_messageIn._from._type = intToContactType(intent.getIntExtra(Constants.EXTRA_CONTACT_TYPE, -1));
-				_messageIn._from._status = intToContactStatus(intent.getIntExtra(Constants.EXTRA_CONTACT_STATUS, 0));
-				_messageIn._from._statusMessage = intent.getStringExtra(Constants.EXTRA_CONTACT_STATUS_MESSAGE);
-				_messageIn._from._usersCount = intent.getIntExtra(Constants.EXTRA_CHANNEL_USERS_COUNT, 0);
-				_messageIn._from._usersTotal = intent.getIntExtra(Constants.EXTRA_CHANNEL_USERS_TOTAL, 0);
-				_messageIn._author._name = intent.getStringExtra(Constants.EXTRA_CHANNEL_AUTHOR_NAME);
-				_messageIn._author._fullName = intent.getStringExtra(Constants.EXTRA_CHANNEL_AUTHOR_FULL_NAME);
-				_messageIn._author._displayName = intent.getStringExtra(Constants.EXTRA_CHANNEL_AUTHOR_DISPLAY_NAME);
-				_messageIn._author._status = intToContactStatus(intent.getIntExtra(Constants.EXTRA_CHANNEL_AUTHOR_STATUS, 0));
-				_messageIn._author._statusMessage = intent.getStringExtra(Constants.EXTRA_CHANNEL_AUTHOR_STATUS_MESSAGE);
-				_messageIn._active = true;
-			}
+	/**
+	 * @param mask Parts of the app state that have changed.
+	 */
+	private void updateContactsCache(int mask) {
+		Contacts contacts = _contacts;
+		if (contacts == null) {
+			return;
 		}
-		if (!in) {
-			_messageIn.reset();
+		if ((mask & (AppStateChange.SIGNED_IN | AppStateChange.NETWORK)) != 0 && !Util.isNullOrEmpty(_appState._username)) {
+			contacts.setAccount(_appState._network, _appState._username);
 		}
-		if (!out) {
-			_messageOut.reset();
+		if (!contacts.hasCursor() && (mask & (AppStateChange.SIGNED_IN | AppStateChange.SHOW_CONTACTS | AppStateChange.NETWORK)) != 0) {
+			// The live list may be available now; other app state changes don't affect it, so don't query the app again
+			contacts.invalidate();
 		}
+	}
 
-		for (Events event : Zello.getInstance().events) {
-			event.onMessageStateChanged();
-		}
+	private void updateMessageState(@Nullable Intent intent) {
+		parseMessageState(intent).run();
 	}
 
-	private void updateLastMessageReplayAvailable(@Nullable Intent intent) {
+	/**
+	 * Read a message state broadcast; the returned runnable applies the state and notifies the listeners.
+	 */
+	private @NonNull Runnable parseMessageState(@Nullable Intent intent) {
+		long time = LatencyStats.now();
+		MessageIn messageIn = new MessageIn();
+		MessageOut messageOut = new MessageOut();
 		if (intent == null) {
-			return;
-		}
-		_lastMessageReplayAvailable = intent.getBooleanExtra(Constants.EXTRA_LAST_MESSAGE_REPLAY_AVAILABLE, false);
+			return () -> applyMessageState(messageIn, messageOut, null, time);
+		}
+		boolean out = intent.getBooleanExtra(Constants.EXTRA_MESSAGE_OUT, false);
+		boolean in = !out && intent.getBooleanExtra(Constants.EXTRA_MESSAGE_IN, false);
+		if (out) {
+			messageOut._to._name = intent.getStringExtra(Constants.EXTRA_CONTACT_NAME);
+			messageOut._to._fullName = intent.getStringExtra(Constants.EXTRA_CONTACT_FULL_NAME);
+			messageOut._to._displayName = intent.getStringExtra(Constants.EXTRA_CONTACT_DISPLAY_NAME);
+			messageOut._to._type = intToContactType(intent.getIntExtra(Constants.EXTRA_CONTACT_TYPE, -1));
+			messageOut._to._status = intToContactStatus(intent.getIntExtra(Constants.EXTRA_CONTACT_STATUS, 0));
+			messageOut._to._statusMessage = intent.getStringExtra(Constants.EXTRA_CONTACT_STATUS_MESSAGE);
+			messageOut._to._usersCount = intent.getIntExtra(Constants.EXTRA_CHANNEL_USERS_COUNT, 0);
+			messageOut._to._usersTotal = intent.getIntExtra(Constants.EXTRA_CHANNEL_USERS_TOTAL, 0);
+			messageOut._active = true;
+			messageOut._connecting = intent.getBooleanExtra(Constants.EXTRA_MESSAGE_CONNECTING, false);
+		}
+		if (in) {
+			messageIn._from._name = intent.getStringExtra(Constants.EXTRA_CONTACT_NAME);
+			messageIn._from._fullName = intent.getStringExtra(Constants.EXTRA_CONTACT_FULL_NAME);
+			messageIn._from._displayName = intent.getStringExtra(Constants.EXTRA_CONTACT_DISPLAY_NAME);
+			messageIn._from._type = intToContactType(intent.getIntExtra(Constants.EXTRA_CONTACT_TYPE, -1));
+			messageIn._from._status = intToContactStatus(intent.getIntExtra(Constants.EXTRA_CONTACT_STATUS, 0));
+			messageIn._from._statusMessage = intent.getStringExtra(Constants.EXTRA_CONTACT_STATUS_MESSAGE);
+			messageIn._from._usersCount = intent.getIntExtra(Constants.EXTRA_CHANNEL_USERS_COUNT, 0);
+			messageIn._from._usersTotal = intent.getIntExtra(Constants.EXTRA_CHANNEL_USERS_TOTAL, 0);
+			messageIn._author._name = intent.getStringExtra(Constants.EXTRA_CHANNEL_AUTHOR_NAME);
+			messageIn._author._fullName = intent.getStringExtra(Constants.EXTRA_CHANNEL_AUTHOR_FULL_NAME);
+			messageIn._author._displayName = intent.getStringExtra(Constants.EXTRA_CHANNEL_AUTHOR_DISPLAY_NAME);
+			messageIn._author._status = intToContactStatus(intent.getIntExtra(Constants.EXTRA_CHANNEL_AUTHOR_STATUS, 0));
+			messageIn._author._statusMessage = intent.getStringExtra(Constants.EXTRA_CHANNEL_AUTHOR_STATUS_MESSAGE);
+			messageIn._active = true;
+		}
+		boolean replayAvailable = intent.getBooleanExtra(Constants.EXTRA_LAST_MESSAGE_REPLAY_AVAILABLE, false);
+		return () -> applyMessageState(messageIn, messageOut, replayAvailable, time);
+	}
+
+	private void applyMessageState(@NonNull MessageIn messageIn, @NonNull MessageOut messageOut, @Nullable Boolean replayAvailable, long time) {
+		if (replayAvailable != null) {
+			_lastMessageReplayAvailable = replayAvailable;
+			_reportedLastMessageReplayAvailable = replayAvailable; // Reported with the message state
+		}
+		_state = _state.withMessages(messageIn, messageOut);
+		_latencyStats.onMessageOutState(messageOut._active, messageOut._connecting, messageOut._to._type, time);
+		_messageTimeline.onMessageState(messageIn, messageOut, time);
+		Zello.getInstance().messagesIn.publish(messageIn);
+		Zello.getInstance().messagesOut.publish(messageOut);
+
+		Zello.getInstance().events.fireMessageStateChanged(messageIn, messageOut);
 	}
 
 	private void updateContacts() {
@@ -1158,33 +1587,45 @@ class Sdk implements SafeHandlerEvents, ServiceConnection {
 		if (connectedPackage == null) {
 			return;
 		}
-		_contacts = new Contacts(connectedPackage, context, _handler);
+		contacts = new Contacts(connectedPackage, context, _handler);
+		contacts.setAccount(_appState._network, _appState._username);
+		contacts.setChangeCoalescing(_contactsCoalescingWindow, _contactsCoalescingMaxLatency);
+		_contacts = contacts;
 	}
 
 	private void updateSelectedContact(@Nullable Intent intent) {
+		parseSelectedContact(intent).run();
+	}
+
+	/**
+	 * Read a selected contact broadcast; the returned runnable applies the selection and notifies the listeners.
+	 */
+	private @NonNull Runnable parseSelectedContact(@Nullable Intent intent) {
 		String name = intent != null ? intent.getStringExtra(Constants.EXTRA_CONTACT_NAME) : null; // Contact name
 		boolean selected = name != null && name.length() > 0;
+		Contact contact = new Contact();
 		if (selected) {
 			// Update info
-			_selectedContact._name = name;
-			_selectedContact._fullName = intent.getStringExtra(Constants.EXTRA_CONTACT_FULL_NAME);
-			_selectedContact._displayName = intent.getStringExtra(Constants.EXTRA_CONTACT_DISPLAY_NAME);
-			_selectedContact._type = intToContactType(intent.getIntExtra(Constants.EXTRA_CONTACT_TYPE, -1));
-			_selectedContact._status = intToContactStatus(intent.getIntExtra(Constants.EXTRA_CONTACT_STATUS, 0));
-			_selectedContact._statusMessage = intent.getStringExtra(Constants.EXTRA_CONTACT_STATUS_MESSAGE);
-			_selectedContact._usersCount = intent.getIntExtra(Constants.EXTRA_CHANNEL_USERS_COUNT, 0);
-			_selectedContact._usersTotal = intent.getIntExtra(Constants.EXTRA_CHANNEL_USERS_TOTAL, 0);
-			_selectedContact._title = intent.getStringExtra(Constants.EXTRA_CONTACT_TITLE);
-			_selectedContact._muted = intent.getIntExtra(Constants.EXTRA_CONTACT_MUTED, 0) != 0;
-			_selectedContact._noDisconnect = intent.getIntExtra(Constants.EXTRA_CHANNEL_NO_DISCONNECT,
-					_selectedContact._type != ContactType.CHANNEL && _selectedContact._type != ContactType.GROUP && _selectedContact._type != ContactType.CONVERSATION ? 1 : 0) != 0;
-		} else {
-			_selectedContact.reset();
+			contact._name = name;
+			contact._fullName = intent.getStringExtra(Constants.EXTRA_CONTACT_FULL_NAME);
+			contact._displayName = intent.getStringExtra(Constants.EXTRA_CONTACT_DISPLAY_NAME);
+			contact._type = intToContactType(intent.getIntExtra(Constants.EXTRA_CONTACT_TYPE, -1));
+			contact._status = intToContactStatus(intent.getIntExtra(Constants.EXTRA_CONTACT_STATUS, 0));
+			contact._statusMessage = intent.getStringExtra(Constants.EXTRA_CONTACT_STATUS_MESSAGE);
+			contact._usersCount = intent.getIntExtra(Constants.EXTRA_CHANNEL_USERS_COUNT, 0);
+			contact._usersTotal = intent.getIntExtra(Constants.EXTRA_CHANNEL_USERS_TOTAL, 0);
+			contact._title = intent.getStringExtra(Constants.EXTRA_CONTACT_TITLE);
+			contact._muted = intent.getIntExtra(Constants.EXTRA_CONTACT_MUTED, 0) != 0;
+			contact._noDisconnect = intent.getIntExtra(Constants.EXTRA_CHANNEL_NO_DISCONNECT,
+					contact._type != ContactType.CHANNEL && contact._type != ContactType.GROUP && contact._type != ContactType.CONVERSATION ? 1 : 0) != 0;
 		}
+		return () -> applySelectedContact(contact);
+	}
 
-		for (Events event : Zello.getInstance().events) {
-			event.onSelectedContactChanged();
-		}
+	private void applySelectedContact(@NonNull Contact contact) {
+		_state = _state.withSelectedContact(contact);
+
+		Zello.getInstance().events.fireSelectedContactChanged(contact);
 	}
 
 	private void updateSelectedTab(@Nullable Intent intent) {
@@ -1192,9 +1633,7 @@ class Sdk implements SafeHandlerEvents, ServiceConnection {
 			return;
 		}
 		Tab tab = stringToTab(intent.getStringExtra(Constants.EXTRA_TAB));
-		for (Events event : Zello.getInstance().events) {
-			event.onLastContactsTabChanged(tab);
-		}
+		Zello.getInstance().events.fireLastContactsTabChanged(tab);
 	}
 
 	private void handlePermissionError(@Nullable Intent intent) {
@@ -1203,20 +1642,14 @@ class Sdk implements SafeHandlerEvents, ServiceConnection {
 		}
 		PermissionError error = intToPermissionError(intent.getIntExtra(Constants.EXTRA_LATEST_PERMISSION_ERROR, PermissionError.NONE.ordinal()));
 		if (error == PermissionError.MICROPHONE_NOT_GRANTED) {
-			for (Events event : Zello.getInstance().events) {
-				event.onMicrophonePermissionNotGranted();
-			}
+			Zello.getInstance().events.fireMicrophonePermissionNotGranted();
 		} else if (error == PermissionError.FOREGROUND_SERVICE_NOT_ALLOWED) {
-			for (Events event : Zello.getInstance().events) {
-				event.onForegroundServiceStartFailed(null);
-			}
+			Zello.getInstance().events.fireForegroundServiceStartFailed(null);
 		}
 	}
 
 	private void handleForegroundServiceException(@Nullable Throwable t) {
-		for (Events event : Zello.getInstance().events) {
-			event.onForegroundServiceStartFailed(t);
-		}
+		Zello.getInstance().events.fireForegroundServiceStartFailed(t);
 	}
 
 	private void handleBtAccessoryState(@Nullable Intent intent) {
@@ -1227,9 +1660,7 @@ class Sdk implements SafeHandlerEvents, ServiceConnection {
 		BluetoothAccessoryState state = intToBtAccessoryState(intent.getIntExtra(Constants.EXTRA_STATE, BluetoothAccessoryState.ERROR.ordinal()));
 		String name = intent.getStringExtra(Constants.EXTRA_NAME);
 		String description = intent.getStringExtra(Constants.EXTRA_DESCRIPTION);
-		for (Events event : Zello.getInstance().events) {
-			event.onBluetoothAccessoryStateChanged(type, state, name, description);
-		}
+		Zello.getInstance().events.fireBluetoothAccessoryStateChanged(type, state, name, description);
 	}
 
 	private boolean isConnected() {
@@ -1254,10 +1685,34 @@ class Sdk implements SafeHandlerEvents, ServiceConnection {
 		return false;
 	}
 
-	private void fireAppStateChanged() {
-		for (Events event : Zello.getInstance().events) {
-			event.onAppStateChanged();
-		}
+	/**
+	 * Notify the listeners about the changes made to the app state since the last notification, if there are any.
+	 * Every change of <code>_appState</code> must be followed by a call to this method, which also publishes the new state.
+	 *
+	 * @return The parts of the app state that have changed, 0 if nothing was reported.
+	 */
+	private int fireAppStateChanged() {
+		int mask = AppStateChange.compute(_reportedAppState, _appState);
+		if (_lastMessageReplayAvailable != _reportedLastMessageReplayAvailable) {
+			mask |= AppStateChange.LAST_MESSAGE_REPLAY;
+		}
+		if (!_appStateReported) {
+			// Listeners can rely on getting the state once after connecting even if it didn't change
+			mask = AppStateChange.ALL;
+		} else if (mask == 0) {
+			return 0;
+		}
+		_appStateReported = true;
+		_reportedLastMessageReplayAvailable = _lastMessageReplayAvailable;
+		_appState.copyTo(_reportedAppState);
+		// The published state is handed out to the app, so it's a separate copy
+		AppState state = new AppState();
+		_appState.copyTo(state);
+		_state = _state.withAppState(state);
+		Zello.getInstance().appStates.publish(state);
+		AppStateChange change = new AppStateChange(mask, state);
+		Zello.getInstance().events.fireAppStateChanged(change);
+		return mask;
 	}
 
 	//endregion
@@ -1324,6 +1779,26 @@ class Sdk implements SafeHandlerEvents, ServiceConnection {
 		};
 	}
 
+	static int contactTypeToInt(@NonNull ContactType type) {
+		return switch (type) {
+			case CHANNEL -> 1;
+			case GATEWAY -> 2;
+			case GROUP -> 3;
+			case CONVERSATION -> 4;
+			default -> 0;
+		};
+	}
+
+	static @NonNull int[] contactStatusToInts(@NonNull ContactStatus status) {
+		return switch (status) {
+			case STANDBY -> new int[]{1};
+			case AVAILABLE -> new int[]{2, 4, 5};
+			case BUSY -> new int[]{3};
+			case CONNECTING -> new int[]{6};
+			default -> new int[]{0};
+		};
+	}
+
 	static @NonNull ContactStatus intToContactStatus(int status) {
 		return switch (status) {
 			case 1 -> ContactStatus.STANDBY;
@@ -1412,7 +1887,7 @@ class Sdk implements SafeHandlerEvents, ServiceConnection {
 	}
 
 	@SuppressWarnings("CharsetObjectCanBeUsed")
-	private static @NonNull String md5(String s) {
+	static @NonNull String md5(String s) {
 		if (s == null || s.isEmpty()) {
 			return "";
 		}
@@ -0,0 +1,44 @@
+package com.zello.sdk;
+
+import java.util.concurrent.Executor;
+
+import androidx.annotation.NonNull;
+
+/**
+ * The <code>SelectedContactListener</code> interface receives changes of the selected contact.
+ *
+ * @see Zello#addListener(ZelloListener)
+ */
+@SuppressWarnings("unused")
+public interface SelectedContactListener extends ZelloListener {
+
+	/**
+	 * <p>
+	 * Called when the selected contact changes.
+	 * </p>
+	 * <p>
+	 * This method is invoked on the UI thread.
+	 * </p>
+	 *
+	 * @see Zello#getSelectedContact(Contact)
+	 */
+	void onSelectedContactChanged();
+
+	/**
+	 * <p>
+	 * Called when the selected contact changes, along with the newly selected contact.
+	 * </p>
+	 * <p>
+	 * The default implementation calls {@link #onSelectedContactChanged()}. Override this method in listeners that run
+	 * on an executor to use the contact as it was when the event was fired, without calling back into the SDK.
+	 * The object is shared between listeners and is read only.
+	 * </p>
+	 *
+	 * @param contact Snapshot of the selected contact; a contact without a name when no contact is selected.
+	 * @see Zello#addListener(ZelloListener, Executor)
+	 */
+	default void onSelectedContactChanged(@NonNull Contact contact) {
+		onSelectedContactChanged();
+	}
+
+}
@@ -0,0 +1,27 @@
+package com.zello.sdk;
+
+import androidx.annotation.NonNull;
+
+/**
+ * The <code>StateObserver</code> interface receives the values of a {@link StateStream}.
+ *
+ * @param <T> Type of the state.
+ * @see StateStream#observe(java.util.concurrent.Executor, StateObserver)
+ */
+@SuppressWarnings("unused")
+public interface StateObserver<T> {
+
+	/**
+	 * <p>
+	 * Called with the latest value of the state.
+	 * </p>
+	 * <p>
+	 * This method is invoked on the executor that the observer was registered with, never for two values at the same time.
+	 * The value is shared between observers; app states and message states are read only.
+	 * </p>
+	 *
+	 * @param value The latest value.
+	 */
+	void onChanged(@NonNull T value);
+
+}
@@ -0,0 +1,170 @@
+package com.zello.sdk;
+
+import java.util.Arrays;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BiPredicate;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+/**
+ * <p>
+ * The <code>StateStream</code> class holds the latest value of a part of the Zello SDK state and delivers it to observers.
+ * </p>
+ * <p>
+ * A new value is only published when it differs from the previous one. Each observer runs on its own executor and is conflated:
+ * an observer that is still busy with a value, or whose executor is backed up, skips the intermediate values and is called
+ * once with the latest value. Publishing never waits for the observers, so slow observers never delay the SDK.
+ * </p>
+ * <p>
+ * To use, get a stream from the <code>Zello</code> object and observe it:
+ * </p>
+ * <pre>
+ * Zello.getInstance().getAppStateStream().observe(executor, state -&gt; updateSignInState(state.isSignedIn()));
+ * </pre>
+ * <p>
+ * The values are immutable snapshots, so a stream is easy to bridge to Kotlin <code>StateFlow</code> or RxJava.
+ * </p>
+ *
+ * @param <T> Type of the state.
+ * @see Zello#getAppStateStream()
+ * @see Zello#getMessageInStream()
+ * @see Zello#getMessageOutStream()
+ * @see Zello#getAudioStream()
+ */
+@SuppressWarnings({"WeakerAccess", "unused"})
+public class StateStream<T> {
+
+	//region Private Properties
+
+	private final @NonNull BiPredicate<T, T> _same;
+	private volatile @Nullable T _value;
+	private volatile @NonNull Subscription<?>[] _subscriptions = new Subscription<?>[0];
+
+	//endregion
+
+	//region Package Private Methods
+
+	StateStream(@NonNull BiPredicate<T, T> same) {
+		_same = same;
+	}
+
+	/**
+	 * Publish a new value unless it's the same as the current one. The value must not be modified afterwards.
+	 */
+	void publish(@NonNull T value) {
+		T current = _value;
+		if (current != null && _same.test(current, value)) {
+			return;
+		}
+		_value = value;
+		for (Subscription<?> subscription : _subscriptions) {
+			subscription.schedule();
+		}
+	}
+
+	//endregion
+
+	//region Public Methods
+
+	/**
+	 * Returns the latest value. This method can be used from any thread.
+	 *
+	 * @return Nullable; The latest value or null if nothing has been published yet.
+	 */
+	public @Nullable T getValue() {
+		return _value;
+	}
+
+	/**
+	 * <p>
+	 * Starts delivering the values to an observer.
+	 * </p>
+	 * <p>
+	 * The observer is called with the current value, if there is one, and then with every new value that it has time for.
+	 * Observing with the same observer more than once has no effect.
+	 * </p>
+	 *
+	 * @param executor Executor that the observer is called on.
+	 * @param observer The observer.
+	 * @see #removeObserver(StateObserver)
+	 */
+	public synchronized void observe(@NonNull Executor executor, @NonNull StateObserver<T> observer) {
+		for (Subscription<?> subscription : _subscriptions) {
+			if (subscription._observer.equals(observer)) {
+				return;
+			}
+		}
+		Subscription<T> subscription = new Subscription<>(this, executor, observer);
+		Subscription<?>[] subscriptions = Arrays.copyOf(_subscriptions, _subscriptions.length + 1);
+		subscriptions[_subscriptions.length] = subscription;
+		_subscriptions = subscriptions;
+		subscription.schedule();
+	}
+
+	/**
+	 * Stops delivering the values to an observer. A value that is already being delivered is not interrupted.
+	 *
+	 * @param observer The observer.
+	 * @see #observe(Executor, StateObserver)
+	 */
+	public synchronized void removeObserver(@NonNull StateObserver<T> observer) {
+		for (int i = 0; i < _subscriptions.length; ++i) {
+			Subscription<?> subscription = _subscriptions[i];
+			if (subscription._observer.equals(observer)) {
+				subscription._removed = true;
+				Subscription<?>[] subscriptions = Arrays.copyOf(_subscriptions, _subscriptions.length - 1);
+				System.arraycopy(_subscriptions, i + 1, subscriptions, i, _subscriptions.length - i - 1);
+				_subscriptions = subscriptions;
+				return;
+			}
+		}
+	}
+
+	//endregion
+
+	/**
+	 * Delivers the values to one observer. At most one delivery is scheduled at a time and it always picks the latest value.
+	 */
+	private static class Subscription<T> implements Runnable {
+
+		private final @NonNull StateStream<T> _stream;
+		private final @NonNull Executor _executor;
+		private final @NonNull StateObserver<T> _observer;
+		private final @NonNull AtomicBoolean _scheduled = new AtomicBoolean();
+		private volatile @Nullable T _delivered; // Last value passed to the observer
+		private volatile boolean _removed;
+
+		Subscription(@NonNull StateStream<T> stream, @NonNull Executor executor, @NonNull StateObserver<T> observer) {
+			_stream = stream;
+			_executor = executor;
+			_observer = observer;
+		}
+
+		void schedule() {
+			if (!_removed && _stream._value != _delivered && _scheduled.compareAndSet(false, true)) {
+				_executor.execute(this);
+			}
+		}
+
+		@Override
+		public void run() {
+			T value = _stream._value;
+			try {
+				if (!_removed && value != null && value != _delivered) {
+					_delivered = value;
+					_observer.onChanged(value);
+				}
+			} finally {
+				_scheduled.set(false);
+			}
+			if (_stream._value != value) {
+				// A new value was published during the delivery
+				schedule();
+			}
+		}
+
+	}
+
+}
@@ -6,6 +6,7 @@ import android.content.pm.PackageInfo;
 import android.content.pm.PackageManager;
 import android.content.pm.ServiceInfo;
 import android.os.Build;
+import android.os.Bundle;
 
 import java.util.Locale;
 import java.util.UUID;
@@ -47,6 +48,36 @@ class Util {
 		return Build.VERSION.SDK_INT;
 	}
 
+	/**
+	 * Stable merge sort of an array of primitive integers.
+	 *
+	 * @param values Values to sort in place
+	 * @param comparator Comparison function
+	 */
+	public static void sort(@NonNull int[] values, @NonNull IntComparator comparator) {
+		if (values.length < 2) {
+			return;
+		}
+		int[] buffer = new int[values.length];
+		for (int width = 1; width < values.length; width <<= 1) {
+			for (int low = 0; low < values.length; low += width << 1) {
+				int middle = Math.min(low + width, values.length);
+				int high = Math.min(low + (width << 1), values.length);
+				int i = low, j = middle, k = low;
+				while (i < middle && j < high) {
+					buffer[k++] = comparator.compare(values[j], values[i]) < 0 ? values[j++] : values[i++];
+				}
+				while (i < middle) {
+					buffer[k++] = values[i++];
+				}
+				while (j < high) {
+					buffer[k++] = values[j++];
+				}
+			}
+			System.arraycopy(buffer, 0, values, 0, values.length);
+		}
+	}
+
 	/**
 	 * Check if two package names are the same.
 	 *
@@ -99,18 +130,18 @@ class Util {
 		if (pi == null) {
 			return null;
 		}
+		Bundle metaData = null;
+		try {
+			ApplicationInfo ai = context.getPackageManager().getApplicationInfo(packageName, PackageManager.GET_META_DATA);
+			metaData = ai.metaData;
+		} catch (PackageManager.NameNotFoundException ignored) {
+		}
 		if (requireMetaData) {
-			ApplicationInfo ai;
-			try {
-				ai = context.getPackageManager().getApplicationInfo(packageName, PackageManager.GET_META_DATA);
-			} catch (PackageManager.NameNotFoundException ignored) {
-				return null;
-			}
-			if (ai.metaData == null) {
+			if (metaData == null) {
 				return null;
 			}
-			Object metaData = ai.metaData.get(sdkMetaDataName);
-			if (!(metaData instanceof Boolean) || !((Boolean) metaData)) {
+			Object sdk = metaData.get(sdkMetaDataName);
+			if (!(sdk instanceof Boolean) || !((Boolean) sdk)) {
 				return null;
 			}
 		}
@@ -118,7 +149,7 @@ class Util {
 		if (serviceClassName == null) {
 			return null;
 		}
-		return new AppInfo(packageName, serviceClassName);
+		return new AppInfo(packageName, serviceClassName, metaData != null ? metaData.getInt(Constants.META_DATA_COMMANDS_VERSION, 0) : 0);
 	}
 
 	/**
@@ -3,8 +3,9 @@ package com.zello.sdk;
 import android.app.Activity;
 import android.content.Context;
 
-import java.util.ArrayList;
+import java.util.concurrent.Executor;
 
+import androidx.annotation.MainThread;
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 
@@ -17,15 +18,24 @@ import androidx.annotation.Nullable;
  * Before using this class, call the {@link Zello#configure(Context)} or {@link Zello#configure(String, Context)} method.
  * For specific usage, see the sample projects.
  * </p>
+ * <p>
+ * Commands issued while the SDK is still connecting to the Zello Work app are queued and delivered in order once it connects,
+ * so the app can be configured right after the SDK is configured. Settings that are changed more than once while connecting
+ * are only sent with their last value. Starting and ending messages are never queued.
+ * </p>
  */
 @SuppressWarnings("WeakerAccess")
 public class Zello {
 
 	private static volatile Zello _instance;
 
-	final @NonNull ArrayList<Events> events = new ArrayList<>();
+	final @NonNull EventDispatcher events = new EventDispatcher();
+	final @NonNull StateStream<AppState> appStates = new StateStream<>((a, b) -> AppStateChange.compute(a, b) == 0);
+	final @NonNull StateStream<MessageIn> messagesIn = new StateStream<>(MessageIn::sameAs);
+	final @NonNull StateStream<MessageOut> messagesOut = new StateStream<>(MessageOut::sameAs);
+	final @NonNull StateStream<Audio> audioStates = new StateStream<>(Audio::sameAs);
 
-	private @Nullable Sdk _sdk;
+	private volatile @Nullable Sdk _sdk;
 	// Protect against multiple attempts to configure SDK.
 	private boolean _configured;
 
@@ -170,9 +180,19 @@ public class Zello {
 	 * @see Events
 	 */
 	public void subscribeToEvents(@NonNull Events event) {
-		if (!events.contains(event)) {
-			events.add(event);
-		}
+		events.add(event, null);
+	}
+
+	/**
+	 * Subscribes for Zello SDK <code>Events</code> that are delivered on an executor.
+	 *
+	 * @param event    Events handler.
+	 * @param executor Executor that the handler is called on.
+	 * @see #addListener(ZelloListener, Executor)
+	 * @see Events
+	 */
+	public void subscribeToEvents(@NonNull Events event, @NonNull Executor executor) {
+		events.add(event, executor);
 	}
 
 	/**
@@ -185,6 +205,53 @@ public class Zello {
 		events.remove(event);
 	}
 
+	/**
+	 * Subscribes a listener to the Zello SDK events.
+	 * <p>
+	 * The listener is called only for the events of the listener interfaces that it implements,
+	 * for example {@link AppStateListener} or {@link AudioStateListener}.
+	 * Subscribing the same listener more than once has no effect.
+	 * Listeners can be added and removed from any thread, including from inside an event handler.
+	 * </p>
+	 *
+	 * @param listener Listener implementing one or more listener interfaces.
+	 * @see ZelloListener
+	 * @see #removeListener(ZelloListener)
+	 */
+	public void addListener(@NonNull ZelloListener listener) {
+		events.add(listener, null);
+	}
+
+	/**
+	 * Subscribes a listener to the Zello SDK events that are delivered on an executor.
+	 * <p>
+	 * Use this method for listeners that do heavy work, such as writing to disk, so that they don't delay the UI thread.
+	 * The events are posted to the executor in the order they are fired. State that changes with an event is passed as
+	 * a snapshot taken when the event was fired: see {@link AppStateChange#getAppState()},
+	 * {@link MessageStateListener#onMessageStateChanged(MessageIn, MessageOut)} and
+	 * {@link SelectedContactListener#onSelectedContactChanged(Contact)}.
+	 * Subscribing the same listener more than once has no effect, even with a different executor.
+	 * </p>
+	 *
+	 * @param listener Listener implementing one or more listener interfaces.
+	 * @param executor Executor that the listener is called on.
+	 * @see #addListener(ZelloListener)
+	 * @see #removeListener(ZelloListener)
+	 */
+	public void addListener(@NonNull ZelloListener listener, @NonNull Executor executor) {
+		events.add(listener, executor);
+	}
+
+	/**
+	 * Unsubscribes a listener from all Zello SDK events.
+	 *
+	 * @param listener Listener that was subscribed using {@link #addListener(ZelloListener)}.
+	 * @see #addListener(ZelloListener)
+	 */
+	public void removeListener(@NonNull ZelloListener listener) {
+		events.remove(listener);
+	}
+
 	//endregion
 
 	//region Zello SDK Methods
@@ -509,7 +576,8 @@ public class Zello {
 	 * Use this method to determine whether or not your UI should display a button to replay the last incoming message.
 	 * There are two events that may trigger a change in the last message availability:
 	 * <code>Events.onMessageStateChanged()</code> when a live incoming voice message is received or when the contact that sent the last incoming message is deleted.
-	 * <code>Events.onAppStateChanged()</code> when the user signs out.
+	 * <code>Events.onAppStateChanged()</code> when the user signs out or the availability changes along with the app state;
+	 * see {@link AppStateChange#LAST_MESSAGE_REPLAY}.
 	 * </p>
 	 *
 	 * @return boolean indicating whether there is a message to replay.
@@ -589,6 +657,31 @@ public class Zello {
 		}
 	}
 
+	/**
+	 * Configures how change notifications of the contact list are coalesced.
+	 * <p>
+	 * The contact list may change many times per second during sign in or mass status updates.
+	 * When <code>windowMs</code> is greater than zero, changes that follow each other within the window are merged
+	 * into a single {@link Events#onContactsChanged()} event, which is delivered once no changes arrive for <code>windowMs</code>
+	 * or <code>maxLatencyMs</code> after the first merged change, whichever comes first.
+	 * </p>
+	 * <p>
+	 * The setting persists until the SDK is unconfigured. By default, coalescing is disabled and each change is reported immediately.
+	 * </p>
+	 *
+	 * @param windowMs Quiet period in milliseconds that ends a burst of changes; 0 to disable coalescing.
+	 * @param maxLatencyMs Maximum delay of a change notification in milliseconds; 0 for no limit.
+	 * @see Contacts#getChangeNotificationCount()
+	 * @see Contacts#getCoalescedChangeCount()
+	 */
+	public void setContactsChangeCoalescing(int windowMs, int maxLatencyMs) {
+		checkConfiguration();
+		Sdk sdk = _sdk;
+		if (sdk != null) {
+			sdk.setContactsChangeCoalescing(windowMs, maxLatencyMs);
+		}
+	}
+
 	//endregion
 
 	//region Authentication
@@ -846,6 +939,27 @@ public class Zello {
 		}
 	}
 
+	/**
+	 * Gets the current snapshot of the Zello SDK state.
+	 * <p>
+	 * Unlike the methods that copy parts of the state into provided objects, this method can be used from any thread
+	 * and returns the app state, the message states and the selected contact as they were after the same update.
+	 * Compare {@link ZelloState#getVersion()} with the version of a previous snapshot to find out if anything has changed.
+	 * </p>
+	 *
+	 * @return The current snapshot.
+	 * @see ZelloState
+	 */
+	public @NonNull ZelloState getState() {
+		checkConfiguration();
+		Sdk sdk = _sdk;
+		if (sdk != null) {
+			return sdk.getState();
+		} else {
+			return new ZelloState();
+		}
+	}
+
 	/**
 	 * Gets info about the current application state.
 	 * <p>
@@ -913,6 +1027,144 @@ public class Zello {
 		}
 	}
 
+	/**
+	 * Gets a part of the contact list of the current user.
+	 * <p>
+	 * Only the contacts and properties described by the query are loaded from the Zello Work app,
+	 * which is faster and uses less memory than loading the whole list when only a few properties or,
+	 * for example, only channels are displayed. Repeated calls with equal queries return the same instance.
+	 * </p>
+	 * <p>
+	 * The list is updated together with the full contact list and <code>onContactsChanged()</code> is called on
+	 * the <code>Events</code> interface when either changes.
+	 * </p>
+	 *
+	 * @param query Nullable; Contacts and properties to load. Pass null to get the whole list.
+	 * @return The filtered contact list for the currently signed in user.
+	 * @see #getContacts()
+	 * @see Events#onContactsChanged()
+	 */
+	public @Nullable Contacts getContacts(@Nullable ContactsQuery query) {
+		checkConfiguration();
+		Sdk sdk = _sdk;
+		if (sdk != null) {
+			return sdk.getContacts(query);
+		} else {
+			return null;
+		}
+	}
+
+	/**
+	 * Loads the contact list of the current user in the background.
+	 * <p>
+	 * The query to the Zello Work app runs on a background thread and the ready snapshot is delivered
+	 * using the executor, so the UI thread never waits for the Zello Work app. Once this method is used,
+	 * the SDK also reloads the list in the background as soon as it changes.
+	 * </p>
+	 *
+	 * @param executor Executor used to invoke the callback, for example <code>ContextCompat.getMainExecutor(context)</code>.
+	 * @param callback Callback receiving the snapshot; an empty snapshot is delivered if the SDK is not connected to the Zello Work app.
+	 * @see Contacts#getSnapshotAsync(Executor, ContactsCallback)
+	 * @see Events#onContactsChanged()
+	 */
+	public void getContactsAsync(@NonNull Executor executor, @NonNull ContactsCallback callback) {
+		getContactsAsync(null, executor, callback);
+	}
+
+	/**
+	 * Loads a part of the contact list of the current user in the background.
+	 *
+	 * @param query Nullable; Contacts and properties to load. Pass null to load the whole list.
+	 * @param executor Executor used to invoke the callback.
+	 * @param callback Callback receiving the snapshot; an empty snapshot is delivered if the SDK is not connected to the Zello Work app.
+	 * @see #getContacts(ContactsQuery)
+	 * @see #getContactsAsync(Executor, ContactsCallback)
+	 */
+	public void getContactsAsync(@Nullable ContactsQuery query, @NonNull Executor executor, @NonNull ContactsCallback callback) {
+		checkConfiguration();
+		Sdk sdk = _sdk;
+		if (sdk != null) {
+			sdk.getContactsAsync(query, executor, callback);
+		} else {
+			executor.execute(() -> callback.onContactsLoaded(new ContactsSnapshot(0, 0)));
+		}
+	}
+
+	/**
+	 * Gets the distribution of a push-to-talk latency for messages sent to contacts of the specified type.
+	 * <p>
+	 * The SDK measures the time from {@link #beginMessage()} and {@link #endMessage()} calls to the corresponding
+	 * outgoing message states reported by the Zello Work app, which makes it possible to track the time it takes to start talking
+	 * across devices and app versions. Statistics are collected since the SDK was configured or since the last call to {@link #resetLatencyStats()}.
+	 * </p>
+	 *
+	 * @param metric The latency.
+	 * @param type Type of the contact that the messages were sent to.
+	 * @return A copy of the current statistics.
+	 * @see LatencyHistogram
+	 */
+	public @NonNull LatencyHistogram getLatencyHistogram(@NonNull LatencyMetric metric, @NonNull ContactType type) {
+		checkConfiguration();
+		LatencyHistogram histogram = new LatencyHistogram();
+		Sdk sdk = _sdk;
+		if (sdk != null) {
+			sdk.getLatencyHistogram(metric, type, histogram);
+		}
+		return histogram;
+	}
+
+	/**
+	 * Gets the history of the last voice messages sent and received by the user.
+	 * <p>
+	 * The SDK keeps the last {@link MessageTimeline#CAPACITY} messages since it was configured.
+	 * Pass the timeline returned by a previous call to update it in place instead of allocating a new one.
+	 * </p>
+	 *
+	 * @param timeline Nullable; A timeline to copy the history to, or null to create a new one.
+	 * @return A copy of the current history.
+	 * @see MessageTimeline
+	 */
+	public @NonNull MessageTimeline getMessageTimeline(@Nullable MessageTimeline timeline) {
+		checkConfiguration();
+		if (timeline == null) {
+			timeline = new MessageTimeline();
+		}
+		Sdk sdk = _sdk;
+		if (sdk != null) {
+			sdk.getMessageTimeline(timeline);
+		}
+		return timeline;
+	}
+
+	/**
+	 * Clears the push-to-talk latency statistics.
+	 *
+	 * @see #getLatencyHistogram(LatencyMetric, ContactType)
+	 */
+	public void resetLatencyStats() {
+		checkConfiguration();
+		Sdk sdk = _sdk;
+		if (sdk != null) {
+			sdk.resetLatencyStats();
+		}
+	}
+
+	/**
+	 * Returns the number of commands that were dropped because they wouldn't change anything.
+	 *
+	 * @return Number of commands dropped since the SDK was configured.
+	 * @see #setSuppressRedundantCommands(boolean)
+	 */
+	public long getSuppressedCommandCount() {
+		checkConfiguration();
+		Sdk sdk = _sdk;
+		if (sdk != null) {
+			return sdk.getSuppressedCommandCount();
+		} else {
+			return 0;
+		}
+	}
+
 	/**
 	 * Gets an instance of the <code>Audio</code> class that is used to control Zello audio settings.
 	 *
@@ -1083,6 +1335,53 @@ public class Zello {
 		}
 	}
 
+	/**
+	 * Specifies whether broadcasts from the Zello Work app should be parsed on a background thread.
+	 * <p>
+	 * By default, the state broadcasts are received and parsed on the main thread. When enabled, they are parsed on a thread
+	 * owned by the SDK, and only the parsed state is handed over to the main thread, where it is applied and the <code>Events</code>
+	 * are called as usual. This keeps the main thread responsive when many messages or state changes arrive in a short time.
+	 * Switching the mode doesn't register the broadcast receiver again, so the current state isn't reported twice.
+	 * </p>
+	 * <p>
+	 * NB: Call this method on the main thread.
+	 * </p>
+	 *
+	 * @param enable Enables parsing broadcasts on a background thread.
+	 */
+	@MainThread
+	public void setBackgroundBroadcastParsing(boolean enable) {
+		checkConfiguration();
+		Sdk sdk = _sdk;
+		if (sdk != null) {
+			sdk.setBackgroundBroadcastParsing(enable);
+		}
+	}
+
+	/**
+	 * Specifies whether commands that wouldn't change anything should be dropped instead of being sent to the Zello Work app.
+	 * <p>
+	 * When enabled, commands are compared with the last known <code>AppState</code> and contact list. For example,
+	 * <code>setStatus()</code> with the current status, <code>setAutoRun()</code> with the current autorun setting or
+	 * <code>connectChannel()</code> for a channel that is already connected are not sent. A command is only dropped when the state
+	 * is known and no earlier command that changes the same setting may still be in progress, so dropping never changes the outcome.
+	 * Channel and mute commands are only checked against a contact list that has already been loaded.
+	 * </p>
+	 * <p>
+	 * By default, this feature is disabled and every command is sent.
+	 * </p>
+	 *
+	 * @param suppress Enables dropping redundant commands.
+	 * @see #getSuppressedCommandCount()
+	 */
+	public void setSuppressRedundantCommands(boolean suppress) {
+		checkConfiguration();
+		Sdk sdk = _sdk;
+		if (sdk != null) {
+			sdk.setSuppressRedundantCommands(suppress);
+		}
+	}
+
 	/**
 	 * Tell the host app that it doesn't need to handle the headset hook events.
 	 * <p>
@@ -1101,6 +1400,118 @@ public class Zello {
 
 	//endregion
 
+	//region Batches
+
+	/**
+	 * Sends several commands to the Zello Work app at once.
+	 * <p>
+	 * The commands added by the <code>builder</code> are collected and delivered when it returns. When the Zello Work app supports
+	 * batches, they are delivered in a single transaction, which is cheaper than sending each command separately;
+	 * otherwise they are sent one by one. Either way, the commands are applied in the order they were added.
+	 * </p>
+	 * <p>
+	 * Only the commands added through the <code>CommandBatch</code> become part of the batch; commands sent by other means
+	 * while the builder runs, including from other threads, are sent right away. This method never waits for other batches.
+	 * If the builder throws, the commands added before that are still sent.
+	 * </p>
+	 *
+	 * @param builder The builder that adds the commands to the batch.
+	 * @see CommandBatch
+	 */
+	public void batch(@NonNull CommandBatchBuilder builder) {
+		checkConfiguration();
+		Sdk sdk = _sdk;
+		if (sdk != null) {
+			sdk.batch(builder);
+		}
+	}
+
+	//endregion
+
+	//region Streams
+
+	/**
+	 * Returns the stream of the <code>AppState</code> values.
+	 * <p>
+	 * The stream keeps its observers when the SDK is unconfigured and configured again.
+	 * </p>
+	 *
+	 * @return The stream of the <code>AppState</code>.
+	 * @see StateStream
+	 */
+	public @NonNull StateStream<AppState> getAppStateStream() {
+		return appStates;
+	}
+
+	/**
+	 * Returns the stream of the incoming message states.
+	 *
+	 * @return The stream of the <code>MessageIn</code>.
+	 * @see StateStream
+	 */
+	public @NonNull StateStream<MessageIn> getMessageInStream() {
+		return messagesIn;
+	}
+
+	/**
+	 * Returns the stream of the outgoing message states.
+	 *
+	 * @return The stream of the <code>MessageOut</code>.
+	 * @see StateStream
+	 */
+	public @NonNull StateStream<MessageOut> getMessageOutStream() {
+		return messagesOut;
+	}
+
+	/**
+	 * Returns the stream of the audio states.
+	 * <p>
+	 * Each value is a snapshot of the {@link Audio}; its mode can still be changed using {@link Audio#setMode(AudioMode)}.
+	 * </p>
+	 *
+	 * @return The stream of the <code>Audio</code>.
+	 * @see StateStream
+	 */
+	public @NonNull StateStream<Audio> getAudioStream() {
+		Sdk sdk = _sdk;
+		if (sdk != null) {
+			// Audio state is only tracked once the Audio object exists
+			sdk.getAudio();
+		}
+		return audioStates;
+	}
+
+	/**
+	 * Starts delivering the changes of the contact list to an observer.
+	 * <p>
+	 * The contact list is loaded on the <code>executor</code>, which should not be the UI thread for large contact lists.
+	 * The observer is first called with the whole current contact list and then with the differences from the snapshot
+	 * it has seen last. Adding the same observer more than once has no effect.
+	 * </p>
+	 *
+	 * @param executor Executor that the contact list is loaded and the observer is called on.
+	 * @param observer The observer.
+	 * @see #removeContactsDiffObserver(ContactsDiffObserver)
+	 */
+	public void addContactsDiffObserver(@NonNull Executor executor, @NonNull ContactsDiffObserver observer) {
+		checkConfiguration();
+		ContactsDiffSubscription subscription = new ContactsDiffSubscription(observer, executor);
+		if (events.add(subscription, null)) {
+			subscription.schedule();
+		}
+	}
+
+	/**
+	 * Stops delivering the changes of the contact list to an observer.
+	 *
+	 * @param observer The observer that was added using {@link #addContactsDiffObserver(Executor, ContactsDiffObserver)}.
+	 */
+	public void removeContactsDiffObserver(@NonNull ContactsDiffObserver observer) {
+		events.remove(observer);
+	}
+
+	//endregion
+
 	//endregion
 
 	//region Private Methods
@@ -1108,6 +1519,11 @@ public class Zello {
 	private Zello() {
 	}
 
+	@Nullable Contacts getCurrentContacts() {
+		Sdk sdk = _sdk;
+		return sdk != null ? sdk.getContacts() : null;
+	}
+
 	private synchronized void doConfigure(@Nullable String packageName, @Nullable Context context) {
 		if (_configured) {
 			return;
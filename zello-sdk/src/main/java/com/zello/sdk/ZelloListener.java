@@ -0,0 +1,18 @@
+package com.zello.sdk;
+
+/**
+ * <p>
+ * The <code>ZelloListener</code> interface is the base of the listeners of Zello SDK events.
+ * </p>
+ * <p>
+ * Each listener interface covers a single event. Implement only the interfaces for the events that matter to a component
+ * and subscribe it using {@link Zello#addListener(ZelloListener)}; the component is then called only for those events.
+ * Some interfaces also declare a <code>default</code> overload that receives the new state and forwards to the
+ * method without arguments, so implementing either method is enough.
+ * The {@link Events} interface combines all listeners.
+ * </p>
+ */
+@SuppressWarnings("unused")
+public interface ZelloListener {
+
+}
@@ -0,0 +1,134 @@
+package com.zello.sdk;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import androidx.annotation.NonNull;
+
+/**
+ * <p>
+ * The <code>ZelloState</code> class is an immutable snapshot of the Zello SDK state: the {@link AppState}, the incoming and
+ * outgoing messages and the selected contact.
+ * </p>
+ * <p>
+ * Every update of any part of the state publishes a new snapshot with a higher version, so the parts of a snapshot are always
+ * consistent with each other. Snapshots can be read from any thread without locking.
+ * </p>
+ * <p>
+ * To use, get the current snapshot using the {@link Zello#getState()} method. Code that polls the state can skip its work
+ * when the version hasn't changed:
+ * </p>
+ * <pre>
+ * ZelloState state = Zello.getInstance().getState();
+ * if (state.getVersion() != lastVersion) {
+ *     lastVersion = state.getVersion();
+ *     update(state);
+ * }
+ * </pre>
+ * <p>
+ * The objects returned by the getters are shared by all consumers and are read only:
+ * their <code>reset()</code> methods throw an <code>UnsupportedOperationException</code>.
+ * Use their <code>clone()</code> methods to get copies that can be modified.
+ * </p>
+ */
+@SuppressWarnings({"WeakerAccess", "unused"})
+public class ZelloState {
+
+	//region Package Private Properties
+
+	private static final @NonNull AtomicLong _lastVersion = new AtomicLong();
+
+	final long _version;
+	final @NonNull AppState _appState;
+	final @NonNull MessageIn _messageIn;
+	final @NonNull MessageOut _messageOut;
+	final @NonNull Contact _selectedContact;
+
+	//endregion
+
+	//region Package Private Methods
+
+	ZelloState() {
+		this(new AppState(), new MessageIn(), new MessageOut(), new Contact());
+	}
+
+	private ZelloState(@NonNull AppState appState, @NonNull MessageIn messageIn, @NonNull MessageOut messageOut, @NonNull Contact selectedContact) {
+		_version = _lastVersion.incrementAndGet(); // Versions keep increasing when the SDK is configured again
+		// The parts are handed out to every consumer and are also passed to the listeners and the streams
+		appState.setReadOnly();
+		messageIn.setReadOnly();
+		messageOut.setReadOnly();
+		selectedContact.setReadOnly();
+		_appState = appState;
+		_messageIn = messageIn;
+		_messageOut = messageOut;
+		_selectedContact = selectedContact;
+	}
+
+	@NonNull ZelloState withAppState(@NonNull AppState appState) {
+		return new ZelloState(appState, _messageIn, _messageOut, _selectedContact);
+	}
+
+	@NonNull ZelloState withMessages(@NonNull MessageIn messageIn, @NonNull MessageOut messageOut) {
+		return new ZelloState(_appState, messageIn, messageOut, _selectedContact);
+	}
+
+	@NonNull ZelloState withSelectedContact(@NonNull Contact selectedContact) {
+		return new ZelloState(_appState, _messageIn, _messageOut, selectedContact);
+	}
+
+	//endregion
+
+	//region Public Methods
+
+	/**
+	 * Returns the version of the snapshot. A newer snapshot always has a higher version.
+	 *
+	 * @return The version.
+	 */
+	public long getVersion() {
+		return _version;
+	}
+
+	/**
+	 * Returns the application state.
+	 *
+	 * @return The <code>AppState</code>.
+	 * @see Zello#getAppState(AppState)
+	 */
+	public @NonNull AppState getAppState() {
+		return _appState;
+	}
+
+	/**
+	 * Returns the state of the incoming message.
+	 *
+	 * @return The <code>MessageIn</code>.
+	 * @see Zello#getMessageIn(MessageIn)
+	 */
+	public @NonNull MessageIn getMessageIn() {
+		return _messageIn;
+	}
+
+	/**
+	 * Returns the state of the outgoing message.
+	 *
+	 * @return The <code>MessageOut</code>.
+	 * @see Zello#getMessageOut(MessageOut)
+	 */
+	public @NonNull MessageOut getMessageOut() {
+		return _messageOut;
+	}
+
+	/**
+	 * Returns the selected contact.
+	 *
+	 * @return The selected <code>Contact</code>; a contact without a name when no contact is selected.
+	 * @see Zello#getSelectedContact(Contact)
+	 */
+	public @NonNull Contact getSelectedContact() {
+		return _selectedContact;
+	}
+
+	//endregion
+
+}
@@ -0,0 +1,88 @@
+package com.zello.sdk;
+
+import org.junit.Test;
+
+import java.util.function.Consumer;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class AppStateChangeTest {
+
+	@Test
+	public void testSameState() {
+		AppState state = new AppState();
+		state._signedIn = true;
+		state._network = "network";
+		state._statusMessage = "away";
+		assertEquals(0, AppStateChange.compute(state, state));
+		assertEquals(0, AppStateChange.compute(state, state.clone()));
+		assertEquals(0, AppStateChange.compute(new AppState(), new AppState()));
+	}
+
+	@Test
+	public void testParts() {
+		assertPart(AppStateChange.AVAILABLE, s -> s._available = true);
+		assertPart(AppStateChange.INITIALIZING, s -> s._initializing = true);
+		assertPart(AppStateChange.CUSTOM_BUILD, s -> s._customBuild = true);
+		assertPart(AppStateChange.CONFIGURING, s -> s._configuring = true);
+		assertPart(AppStateChange.LOCKED, s -> s._locked = true);
+		assertPart(AppStateChange.SIGNED_IN, s -> s._signedIn = true);
+		assertPart(AppStateChange.SIGNED_IN, s -> s._signingIn = true);
+		assertPart(AppStateChange.SIGNED_IN, s -> s._signingOut = true);
+		assertPart(AppStateChange.SIGNED_IN, s -> s._cancelling = true);
+		assertPart(AppStateChange.RECONNECT_TIMER, s -> s._reconnectTimer = 10);
+		assertPart(AppStateChange.RECONNECT_TIMER, s -> s._waitingForNetwork = true);
+		assertPart(AppStateChange.SHOW_CONTACTS, s -> s._showContacts = true);
+		assertPart(AppStateChange.STATUS, s -> s._busy = true);
+		assertPart(AppStateChange.STATUS, s -> s._solo = true);
+		assertPart(AppStateChange.STATUS_MESSAGE, s -> s._statusMessage = "away");
+		assertPart(AppStateChange.AUTO_RUN, s -> s._autoRun = true);
+		assertPart(AppStateChange.AUTO_CHANNELS, s -> s._autoChannels = false);
+		assertPart(AppStateChange.NETWORK, s -> s._network = "network");
+		assertPart(AppStateChange.NETWORK, s -> s._networkUrl = "https://network.zellowork.com");
+		assertPart(AppStateChange.NETWORK, s -> s._username = "user");
+		assertPart(AppStateChange.LAST_ERROR, s -> s._lastError = Error.INVALID_CREDENTIALS);
+		assertPart(AppStateChange.EXTERNAL_ID, s -> s._externalId = "id");
+	}
+
+	@Test
+	public void testAvailabilityHidesError() {
+		// An unavailable service with an error is still unavailable
+		AppState a = new AppState();
+		AppState b = new AppState();
+		b._error = true;
+		assertEquals(0, AppStateChange.compute(a, b) & AppStateChange.AVAILABLE);
+		a._available = true;
+		b._available = true;
+		assertEquals(AppStateChange.AVAILABLE, AppStateChange.compute(a, b));
+	}
+
+	@Test
+	public void testSeveralParts() {
+		AppState a = new AppState();
+		AppState b = new AppState();
+		b._signedIn = true;
+		b._username = "user";
+		b._statusMessage = "";
+		int mask = AppStateChange.compute(a, b);
+		assertEquals(AppStateChange.SIGNED_IN | AppStateChange.NETWORK | AppStateChange.STATUS_MESSAGE, mask);
+		assertEquals(mask, AppStateChange.compute(b, a));
+		AppStateChange change = new AppStateChange(mask, b);
+		assertTrue(change.has(AppStateChange.NETWORK));
+		assertTrue(change.has(AppStateChange.LOCKED | AppStateChange.SIGNED_IN));
+		assertFalse(change.has(AppStateChange.LOCKED));
+		assertEquals(mask, change.getMask());
+	}
+
+	private static void assertPart(int part, Consumer<AppState> update) {
+		AppState a = new AppState();
+		AppState b = new AppState();
+		update.accept(b);
+		assertEquals(part, AppStateChange.compute(a, b));
+		assertEquals(part, AppStateChange.compute(b, a));
+		assertEquals(0, AppStateChange.compute(b, b.clone()));
+	}
+
+}
@@ -0,0 +1,175 @@
+package com.zello.sdk;
+
+import android.content.Intent;
+
+import org.junit.Test;
+
+import java.util.HashMap;
+import java.util.List;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class CommandQueueTest {
+
+	@Test
+	public void testOrder() {
+		CommandQueue queue = new CommandQueue(CommandQueue.DEFAULT_CAPACITY);
+		Command selectContact = new Command(Constants.VALUE_SELECT_CONTACT);
+		Command setAutoRun = new Command(Constants.VALUE_SET_AUTO_RUN);
+		Command setStatus = new Command(Constants.VALUE_SET_STATUS);
+		assertTrue(queue.add(selectContact));
+		assertTrue(queue.add(setAutoRun));
+		assertTrue(queue.add(setStatus));
+		assertCommands(queue.drain(), selectContact, setAutoRun, setStatus);
+		assertCommands(queue.drain());
+	}
+
+	@Test
+	public void testTransientCommandsAreNotQueued() {
+		CommandQueue queue = new CommandQueue(CommandQueue.DEFAULT_CAPACITY);
+		assertFalse(queue.add(new Command(Constants.VALUE_BEGIN_MESSAGE)));
+		assertFalse(queue.add(new Command(Constants.VALUE_END_MESSAGE)));
+		assertFalse(queue.add(new Command(null)));
+		assertCommands(queue.drain());
+	}
+
+	@Test
+	public void testSupersededCommandsCollapse() {
+		// The last command is kept at the position where it was issued
+		CommandQueue queue = new CommandQueue(CommandQueue.DEFAULT_CAPACITY);
+		queue.add(new Command(Constants.VALUE_SET_AUTO_RUN));
+		Command selectContact = new Command(Constants.VALUE_SELECT_CONTACT);
+		queue.add(selectContact);
+		Command setAutoRun = new Command(Constants.VALUE_SET_AUTO_RUN);
+		queue.add(setAutoRun);
+		assertCommands(queue.drain(), selectContact, setAutoRun);
+	}
+
+	@Test
+	public void testOppositeCommandsCollapse() {
+		CommandQueue queue = new CommandQueue(CommandQueue.DEFAULT_CAPACITY);
+		queue.add(new Command(Constants.VALUE_SIGN_IN));
+		Command signOut = new Command(Constants.VALUE_SIGN_OUT);
+		queue.add(signOut);
+		queue.add(new Command(Constants.VALUE_CONNECT).with(Constants.EXTRA_CONTACT_NAME, "news"));
+		Command disconnect = new Command(Constants.VALUE_DISCONNECT).with(Constants.EXTRA_CONTACT_NAME, "news");
+		queue.add(disconnect);
+		assertCommands(queue.drain(), signOut, disconnect);
+	}
+
+	@Test
+	public void testCommandsForDifferentContactsDontCollapse() {
+		CommandQueue queue = new CommandQueue(CommandQueue.DEFAULT_CAPACITY);
+		Command muteUser = new Command(Constants.VALUE_MUTE).with(Constants.EXTRA_CONTACT_NAME, "news").with(Constants.EXTRA_CONTACT_TYPE, 0);
+		Command muteChannel = new Command(Constants.VALUE_MUTE).with(Constants.EXTRA_CONTACT_NAME, "news").with(Constants.EXTRA_CONTACT_TYPE, 1);
+		Command unmuteChannel = new Command(Constants.VALUE_UNMUTE).with(Constants.EXTRA_CONTACT_NAME, "news").with(Constants.EXTRA_CONTACT_TYPE, 1);
+		Command connectOther = new Command(Constants.VALUE_CONNECT).with(Constants.EXTRA_CONTACT_NAME, "other");
+		queue.add(muteUser);
+		queue.add(muteChannel);
+		queue.add(connectOther);
+		queue.add(unmuteChannel);
+		assertCommands(queue.drain(), muteUser, connectOther, unmuteChannel);
+	}
+
+	@Test
+	public void testStatusAndStatusMessageDontCollapse() {
+		CommandQueue queue = new CommandQueue(CommandQueue.DEFAULT_CAPACITY);
+		Command setStatus = new Command(Constants.VALUE_SET_STATUS);
+		Command setStatusMessage = new Command(Constants.VALUE_SET_STATUS).with(Constants.EXTRA_STATE_STATUS_MESSAGE, "away");
+		queue.add(setStatus);
+		queue.add(setStatusMessage);
+		assertCommands(queue.drain(), setStatus, setStatusMessage);
+	}
+
+	@Test
+	public void testEviction() {
+		// When the queue is full, the oldest command is dropped
+		CommandQueue queue = new CommandQueue(3);
+		Command[] commands = new Command[5];
+		for (int i = 0; i < commands.length; ++i) {
+			commands[i] = new Command(Constants.VALUE_CONNECT).with(Constants.EXTRA_CONTACT_NAME, "channel" + i);
+			assertTrue(queue.add(commands[i]));
+		}
+		assertCommands(queue.drain(), commands[2], commands[3], commands[4]);
+	}
+
+	@Test
+	public void testCollapseBeforeEviction() {
+		// A command that supersedes a queued one takes its place instead of evicting another command
+		CommandQueue queue = new CommandQueue(2);
+		Command selectContact = new Command(Constants.VALUE_SELECT_CONTACT);
+		queue.add(selectContact);
+		queue.add(new Command(Constants.VALUE_SET_AUTO_RUN));
+		Command setAutoRun = new Command(Constants.VALUE_SET_AUTO_RUN);
+		queue.add(setAutoRun);
+		assertCommands(queue.drain(), selectContact, setAutoRun);
+	}
+
+	@Test
+	public void testRemoveAndClear() {
+		CommandQueue queue = new CommandQueue(CommandQueue.DEFAULT_CAPACITY);
+		Command lock = new Command(Constants.VALUE_LOCK);
+		queue.add(new Command(Constants.VALUE_CONNECT).with(Constants.EXTRA_CONTACT_NAME, "a"));
+		queue.add(lock);
+		queue.add(new Command(Constants.VALUE_CONNECT).with(Constants.EXTRA_CONTACT_NAME, "b"));
+		queue.remove(Constants.VALUE_CONNECT);
+		assertCommands(queue.drain(), lock);
+		queue.add(lock);
+		queue.clear();
+		assertCommands(queue.drain());
+		// Keys are removed along with the commands
+		queue.add(lock);
+		assertCommands(queue.drain(), lock);
+	}
+
+	private static void assertCommands(@NonNull List<Intent> actual, @NonNull Intent... expected) {
+		assertEquals(expected.length, actual.size());
+		for (int i = 0; i < expected.length; ++i) {
+			assertSame(expected[i], actual.get(i));
+		}
+	}
+
+	/**
+	 * Command with extras kept in a map, because Intent doesn't keep them in the JVM tests.
+	 */
+	private static class Command extends Intent {
+
+		private final @NonNull HashMap<String, Object> _extras = new HashMap<>();
+
+		Command(@Nullable String command) {
+			if (command != null) {
+				_extras.put(Constants.EXTRA_COMMAND, command);
+			}
+		}
+
+		@NonNull Command with(@NonNull String name, @NonNull Object value) {
+			_extras.put(name, value);
+			return this;
+		}
+
+		@Override
+		public boolean hasExtra(String name) {
+			return _extras.containsKey(name);
+		}
+
+		@Override
+		public String getStringExtra(String name) {
+			Object value = _extras.get(name);
+			return value instanceof String ? (String) value : null;
+		}
+
+		@Override
+		public int getIntExtra(String name, int defaultValue) {
+			Object value = _extras.get(name);
+			return value instanceof Integer ? (Integer) value : defaultValue;
+		}
+
+	}
+
+}
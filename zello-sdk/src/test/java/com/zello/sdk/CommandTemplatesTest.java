@@ -0,0 +1,74 @@
+package com.zello.sdk;
+
+import android.content.ContextWrapper;
+
+import com.sun.management.ThreadMXBean;
+
+import org.junit.Test;
+
+import java.lang.management.ManagementFactory;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class CommandTemplatesTest {
+
+	private static final String PACKAGE = "com.loudtalks";
+	private static final int PRESSES = 10_000;
+
+	@Test
+	public void testAction() {
+		CommandTemplates commands = new CommandTemplates(PACKAGE);
+		assertEquals(PACKAGE, commands.packageName);
+		assertEquals(PACKAGE + "." + Constants.ACTION_COMMAND, commands.action);
+	}
+
+	@Test
+	public void testPressDoesNotAllocate() throws Exception {
+		Sdk sdk = createConnectedSdk();
+		CommandTemplates commands = getCommandTemplates(sdk);
+		ThreadMXBean threads = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+		long thread = Thread.currentThread().getId();
+		press(sdk); // Warm up
+		long bytes = threads.getThreadAllocatedBytes(thread);
+		long time = System.nanoTime();
+		press(sdk);
+		time = System.nanoTime() - time;
+		bytes = threads.getThreadAllocatedBytes(thread) - bytes;
+		System.out.println("PTT press: " + (double) bytes / PRESSES + " bytes, " + time / PRESSES + " ns");
+		// Any object allocated per press would take at least 16 bytes
+		assertTrue("Allocated " + bytes + " bytes in " + PRESSES + " presses", bytes < PRESSES);
+		assertSame(commands, getCommandTemplates(sdk));
+	}
+
+	private static void press(Sdk sdk) {
+		for (int i = 0; i < PRESSES; ++i) {
+			sdk.beginMessage();
+			sdk.endMessage();
+		}
+	}
+
+	/**
+	 * Create an SDK connected to an app without the command messenger, so the commands are sent as broadcasts.
+	 */
+	private static Sdk createConnectedSdk() throws Exception {
+		Sdk sdk = new Sdk();
+		Field context = Sdk.class.getDeclaredField("_context");
+		context.setAccessible(true);
+		context.set(sdk, new ContextWrapper(null));
+		Method setConnectedPackage = Sdk.class.getDeclaredMethod("setConnectedPackage", String.class);
+		setConnectedPackage.setAccessible(true);
+		setConnectedPackage.invoke(sdk, PACKAGE);
+		return sdk;
+	}
+
+	private static CommandTemplates getCommandTemplates(Sdk sdk) throws Exception {
+		Field commands = Sdk.class.getDeclaredField("_commandTemplates");
+		commands.setAccessible(true);
+		return (CommandTemplates) commands.get(sdk);
+	}
+
+}
@@ -0,0 +1,135 @@
+package com.zello.sdk;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class ContactsDiffTest {
+
+	@Test
+	public void testFromNothing() {
+		ContactsDiff diff = ContactsDiff.compute(null, Snapshots.users(3, "a", "b", "c"));
+		assertEquals(0, diff.getFromVersion());
+		assertEquals(3, diff.getToVersion());
+		assertArrayEquals(new int[]{0, 1, 2}, inserted(diff));
+		assertEquals(0, diff.getRemovedCount());
+	}
+
+	@Test
+	public void testToNothing() {
+		ContactsDiff diff = ContactsDiff.compute(Snapshots.users(1, "a", "b"), Snapshots.users(2));
+		assertArrayEquals(new int[]{0, 1}, removed(diff));
+		assertEquals(0, diff.getInsertedCount());
+	}
+
+	@Test
+	public void testSame() {
+		ContactsDiff diff = ContactsDiff.compute(Snapshots.users(1, "a", "b", "c"), Snapshots.users(2, "a", "b", "c"));
+		assertTrue(diff.isEmpty());
+		assertEquals(1, diff.getFromVersion());
+		assertEquals(2, diff.getToVersion());
+	}
+
+	@Test
+	public void testInsertRemoveChange() {
+		ContactsSnapshot to = Snapshots.users(2, "a", "x", "c", "y");
+		to._statuses[2] = (byte) ContactStatus.OFFLINE.ordinal();
+		ContactsDiff diff = ContactsDiff.compute(Snapshots.users(1, "a", "b", "c", "d"), to);
+		assertFalse(diff.isEmpty());
+		assertArrayEquals(new int[]{1, 3}, inserted(diff));
+		assertArrayEquals(new int[]{1, 3}, removed(diff));
+		assertArrayEquals(new int[]{2}, changed(diff));
+		assertEquals(0, diff.getMovedCount());
+	}
+
+	@Test
+	public void testSingleMove() {
+		// Only the contact that left the longest run in the old order is reported as moved
+		ContactsDiff diff = ContactsDiff.compute(Snapshots.users(1, "a", "b", "c", "d", "e"), Snapshots.users(2, "b", "c", "d", "a", "e"));
+		assertEquals(1, diff.getMovedCount());
+		assertEquals(0, diff.getMovedFromPosition(0));
+		assertEquals(3, diff.getMovedToPosition(0));
+		assertEquals(0, diff.getInsertedCount());
+		assertEquals(0, diff.getRemovedCount());
+		assertEquals(0, diff.getChangedCount());
+	}
+
+	@Test
+	public void testMoveToFront() {
+		ContactsDiff diff = ContactsDiff.compute(Snapshots.users(1, "a", "b", "c", "d", "e"), Snapshots.users(2, "e", "a", "b", "c", "d"));
+		assertEquals(1, diff.getMovedCount());
+		assertEquals(4, diff.getMovedFromPosition(0));
+		assertEquals(0, diff.getMovedToPosition(0));
+	}
+
+	@Test
+	public void testReverse() {
+		// Reversing keeps a run of one contact, all others have moved
+		ContactsDiff diff = ContactsDiff.compute(Snapshots.users(1, "a", "b", "c", "d"), Snapshots.users(2, "d", "c", "b", "a"));
+		assertEquals(3, diff.getMovedCount());
+		int[] movedTo = new int[diff.getMovedCount()];
+		for (int i = 0; i < movedTo.length; ++i) {
+			movedTo[i] = diff.getMovedToPosition(i);
+			assertEquals(3 - movedTo[i], diff.getMovedFromPosition(i));
+		}
+		assertArrayEquals(new int[]{0, 1, 2}, movedTo);
+	}
+
+	@Test
+	public void testMovesWithInsertsAndRemoves() {
+		// Old positions of the matched contacts are 3, 0, 2 (with f inserted and b removed); the run 0, 2 stays
+		ContactsDiff diff = ContactsDiff.compute(Snapshots.users(1, "a", "b", "c", "d"), Snapshots.users(2, "d", "f", "a", "c"));
+		assertArrayEquals(new int[]{1}, inserted(diff));
+		assertArrayEquals(new int[]{1}, removed(diff));
+		assertEquals(1, diff.getMovedCount());
+		assertEquals(3, diff.getMovedFromPosition(0));
+		assertEquals(0, diff.getMovedToPosition(0));
+	}
+
+	@Test
+	public void testDuplicates() {
+		// The second copy of a duplicate contact has no counterpart and is reported as inserted
+		ContactsDiff diff = ContactsDiff.compute(Snapshots.users(1, "a", "b"), Snapshots.users(2, "a", "b", "a"));
+		assertArrayEquals(new int[]{2}, inserted(diff));
+		assertEquals(0, diff.getRemovedCount());
+		assertEquals(0, diff.getMovedCount());
+		assertEquals(0, diff.getChangedCount());
+	}
+
+	@Test
+	public void testTypeIsPartOfTheKey() {
+		ContactsSnapshot to = new ContactsSnapshot(2, 1);
+		Snapshots.set(to, 0, "a", ContactType.CHANNEL);
+		ContactsDiff diff = ContactsDiff.compute(Snapshots.users(1, "a"), to);
+		assertArrayEquals(new int[]{0}, inserted(diff));
+		assertArrayEquals(new int[]{0}, removed(diff));
+	}
+
+	private static int[] inserted(ContactsDiff diff) {
+		int[] positions = new int[diff.getInsertedCount()];
+		for (int i = 0; i < positions.length; ++i) {
+			positions[i] = diff.getInsertedPosition(i);
+		}
+		return positions;
+	}
+
+	private static int[] removed(ContactsDiff diff) {
+		int[] positions = new int[diff.getRemovedCount()];
+		for (int i = 0; i < positions.length; ++i) {
+			positions[i] = diff.getRemovedPosition(i);
+		}
+		return positions;
+	}
+
+	private static int[] changed(ContactsDiff diff) {
+		int[] positions = new int[diff.getChangedCount()];
+		for (int i = 0; i < positions.length; ++i) {
+			positions[i] = diff.getChangedPosition(i);
+		}
+		return positions;
+	}
+
+}
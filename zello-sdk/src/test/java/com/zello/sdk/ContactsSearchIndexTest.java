@@ -0,0 +1,115 @@
+package com.zello.sdk;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Random;
+
+import static org.junit.Assert.assertArrayEquals;
+
+public class ContactsSearchIndexTest {
+
+	@Test
+	public void testSearchPrefix() {
+		ContactsSnapshot snapshot = createSnapshot();
+		assertArrayEquals(new int[]{0, 1}, snapshot.searchPrefix("al", 10));
+		assertArrayEquals(new int[]{0, 1}, snapshot.searchPrefix("AL", 10));
+		assertArrayEquals(new int[]{2}, snapshot.searchPrefix("bob a", 10));
+		assertArrayEquals(new int[]{3}, snapshot.searchPrefix("dispatch", 10));
+		assertArrayEquals(new int[0], snapshot.searchPrefix("alv", 10));
+		assertArrayEquals(new int[0], snapshot.searchPrefix("zz", 10));
+	}
+
+	@Test
+	public void testSearchPrefixReportsContactsOnce() {
+		// The name, the full name and the display name of the contact all start with the query
+		ContactsSnapshot snapshot = createSnapshot();
+		assertArrayEquals(new int[]{2}, snapshot.searchPrefix("b", 10));
+	}
+
+	@Test
+	public void testSearchPrefixLimit() {
+		ContactsSnapshot snapshot = createSnapshot();
+		assertArrayEquals(new int[]{0}, snapshot.searchPrefix("al", 1));
+		assertArrayEquals(new int[0], snapshot.searchPrefix("al", 0));
+		assertArrayEquals(new int[]{0, 1, 2}, snapshot.searchPrefix("", 3));
+		assertArrayEquals(new int[]{0, 1, 2, 3}, snapshot.searchPrefix(null, 10));
+	}
+
+	@Test
+	public void testSearch() {
+		ContactsSnapshot snapshot = createSnapshot();
+		assertArrayEquals(new int[]{0}, snapshot.search("ice", 10)); // Trigram
+		assertArrayEquals(new int[]{0, 1, 2}, snapshot.search("AL", 10)); // Bigram, case-insensitive
+		assertArrayEquals(new int[]{2}, snapshot.search("lvarez", 10)); // Several trigrams in the full name
+		assertArrayEquals(new int[]{3}, snapshot.search("patch", 10)); // Display name
+		assertArrayEquals(new int[]{0, 1, 2}, snapshot.search("l", 10)); // Single character
+		assertArrayEquals(new int[]{0, 1, 2, 3}, snapshot.search("", 10));
+		assertArrayEquals(new int[0], snapshot.search("xyz", 10));
+	}
+
+	@Test
+	public void testSearchVerifiesCandidates() {
+		// Each trigram of the query is present, but no contact contains the whole query
+		ContactsSnapshot snapshot = Snapshots.users(1, "abcx", "xbcd");
+		assertArrayEquals(new int[0], snapshot.search("abcd", 10));
+		assertArrayEquals(new int[]{0, 1}, snapshot.search("bc", 10));
+	}
+
+	@Test
+	public void testSearchLimit() {
+		ContactsSnapshot snapshot = createSnapshot();
+		assertArrayEquals(new int[]{0}, snapshot.search("al", 1));
+		assertArrayEquals(new int[]{0}, snapshot.search("l", 1));
+		assertArrayEquals(new int[0], snapshot.search("al", 0));
+	}
+
+	@Test
+	public void testSearchMatchesScan() {
+		// Compare both searches with a plain scan over names made of a small alphabet, so that grams repeat a lot
+		Random random = new Random(1);
+		String[] names = new String[300];
+		for (int i = 0; i < names.length; ++i) {
+			char[] chars = new char[1 + random.nextInt(8)];
+			for (int j = 0; j < chars.length; ++j) {
+				chars[j] = "abcAB".charAt(random.nextInt(5));
+			}
+			names[i] = new String(chars);
+		}
+		ContactsSnapshot snapshot = Snapshots.users(1, names);
+		ContactsSearchIndex index = new ContactsSearchIndex(snapshot);
+		for (int length = 1; length <= 4; ++length) {
+			for (int i = 0; i < 50; ++i) {
+				char[] chars = new char[length];
+				for (int j = 0; j < length; ++j) {
+					chars[j] = "abc".charAt(random.nextInt(3));
+				}
+				String query = new String(chars);
+				assertArrayEquals(query, scan(names, query, false), index.search(query, names.length));
+				assertArrayEquals(query, scan(names, query, true), index.searchPrefix(query, names.length));
+			}
+		}
+	}
+
+	private static ContactsSnapshot createSnapshot() {
+		ContactsSnapshot snapshot = Snapshots.users(1, "alice", "alfred", "bob", "ops");
+		snapshot._fullNames[2] = "Bob Alvarez";
+		snapshot._displayNames[2] = "Bobby";
+		snapshot._displayNames[3] = "Dispatch";
+		return snapshot;
+	}
+
+	private static int[] scan(String[] names, String query, boolean prefix) {
+		int[] result = new int[names.length];
+		int count = 0;
+		for (int i = 0; i < names.length; ++i) {
+			String name = names[i].toLowerCase(Locale.ROOT);
+			if (prefix ? name.startsWith(query) : name.contains(query)) {
+				result[count++] = i;
+			}
+		}
+		return Arrays.copyOf(result, count);
+	}
+
+}
@@ -0,0 +1,94 @@
+package com.zello.sdk;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class ContactsSnapshotTest {
+
+	@Test
+	public void testIndexOf() {
+		String[] names = new String[100];
+		for (int i = 0; i < names.length; ++i) {
+			names[i] = "user" + i;
+		}
+		ContactsSnapshot snapshot = Snapshots.users(1, names);
+		for (int i = 0; i < names.length; ++i) {
+			assertEquals(i, snapshot.indexOf(names[i], ContactType.USER));
+		}
+		assertEquals(-1, snapshot.indexOf("user100", ContactType.USER));
+		assertEquals(-1, snapshot.indexOf("user0", ContactType.CHANNEL));
+		assertEquals(-1, snapshot.indexOf(null, ContactType.USER));
+	}
+
+	@Test
+	public void testIndexOfEmpty() {
+		ContactsSnapshot snapshot = Snapshots.users(1);
+		assertEquals(-1, snapshot.indexOf("user", ContactType.USER));
+		assertEquals(-1, snapshot.indexOf("", ContactType.USER));
+	}
+
+	@Test
+	public void testIndexOfSameNameDifferentType() {
+		ContactsSnapshot snapshot = new ContactsSnapshot(1, 3);
+		Snapshots.set(snapshot, 0, "team", ContactType.USER);
+		Snapshots.set(snapshot, 1, "team", ContactType.CHANNEL);
+		Snapshots.set(snapshot, 2, "team", ContactType.GROUP);
+		assertEquals(0, snapshot.indexOf("team", ContactType.USER));
+		assertEquals(1, snapshot.indexOf("team", ContactType.CHANNEL));
+		assertEquals(2, snapshot.indexOf("team", ContactType.GROUP));
+		assertEquals(-1, snapshot.indexOf("team", ContactType.CONVERSATION));
+	}
+
+	@Test
+	public void testIndexOfDuplicates() {
+		ContactsSnapshot snapshot = Snapshots.users(1, "alice", "bob", "alice", "carol", "bob");
+		assertEquals(0, snapshot.indexOf("alice", ContactType.USER));
+		assertEquals(1, snapshot.indexOf("bob", ContactType.USER));
+		assertEquals(3, snapshot.indexOf("carol", ContactType.USER));
+	}
+
+	@Test
+	public void testIndexOfCollisions() {
+		// "Aa" and "BB" have the same hash code, so they probe the same slots
+		assertEquals("Aa".hashCode(), "BB".hashCode());
+		ContactsSnapshot snapshot = Snapshots.users(1, "AaAa", "BBBB", "AaBB", "BBAa", "x");
+		assertEquals(0, snapshot.indexOf("AaAa", ContactType.USER));
+		assertEquals(1, snapshot.indexOf("BBBB", ContactType.USER));
+		assertEquals(2, snapshot.indexOf("AaBB", ContactType.USER));
+		assertEquals(3, snapshot.indexOf("BBAa", ContactType.USER));
+		assertEquals(4, snapshot.indexOf("x", ContactType.USER));
+		assertEquals(-1, snapshot.indexOf("AaAaAa", ContactType.USER));
+	}
+
+	@Test
+	public void testIndexOfNullName() {
+		// Contacts without a name are indexed under the empty name
+		ContactsSnapshot snapshot = Snapshots.users(1, "alice", null);
+		assertEquals(1, snapshot.indexOf("", ContactType.USER));
+		assertEquals(-1, snapshot.indexOf(null, ContactType.USER));
+	}
+
+	@Test
+	public void testTruncate() {
+		ContactsSnapshot snapshot = new ContactsSnapshot(7, 3, true);
+		Snapshots.set(snapshot, 0, "alice", ContactType.USER);
+		Snapshots.set(snapshot, 1, "news", ContactType.CHANNEL);
+		Snapshots.set(snapshot, 2, "bob", ContactType.USER);
+		assertSame(snapshot, snapshot.truncate(3));
+		ContactsSnapshot truncated = snapshot.truncate(2);
+		assertEquals(2, truncated.getCount());
+		assertEquals(7, truncated.getVersion());
+		assertTrue(truncated.isStale());
+		assertEquals("alice", truncated.getName(0));
+		assertEquals(ContactType.CHANNEL, truncated.getType(1));
+		assertEquals(-1, truncated.indexOf("bob", ContactType.USER));
+		assertNull(truncated.getItem(2));
+		assertFalse(truncated.getItem(2, new Contact()));
+	}
+
+}
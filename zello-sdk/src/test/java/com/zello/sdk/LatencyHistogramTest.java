@@ -0,0 +1,114 @@
+package com.zello.sdk;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class LatencyHistogramTest {
+
+	private static final long HOUR = 3_600_000_000L;
+
+	@Test
+	public void testEmpty() {
+		LatencyHistogram histogram = new LatencyHistogram();
+		assertEquals(0, histogram.getCount());
+		assertEquals(0, histogram.getMin());
+		assertEquals(0, histogram.getMax());
+		assertEquals(0, histogram.getMean(), 0);
+		assertEquals(0, histogram.getValueAtPercentile(50));
+	}
+
+	@Test
+	public void testBucketBoundaries() {
+		// The median falls into the bucket of the first value; its upper bound is reported
+		assertEquals(63, median(63)); // Last exact bucket
+		assertEquals(65, median(64)); // First bucket two units wide
+		assertEquals(65, median(65));
+		assertEquals(127, median(126));
+		assertEquals(127, median(127)); // Last bucket two units wide
+		assertEquals(131, median(128)); // First bucket four units wide
+		assertEquals(131, median(131));
+		assertEquals(135, median(132));
+	}
+
+	@Test
+	public void testExactSmallValues() {
+		LatencyHistogram histogram = new LatencyHistogram();
+		for (int value = 0; value < 64; ++value) {
+			histogram.record(value);
+		}
+		for (int value = 0; value < 64; ++value) {
+			assertEquals(value, histogram.getValueAtPercentile(100.0 * (value + 1) / 64));
+		}
+	}
+
+	@Test
+	public void testPrecision() {
+		// Every value is reported within the relative precision of its bucket
+		for (long value = 1; value < HOUR; value = value * 3 / 2 + 1) {
+			long reported = median(value);
+			assertTrue(value + " reported as " + reported, reported >= value && reported - value <= value / 32 + 1);
+		}
+	}
+
+	@Test
+	public void testPercentiles() {
+		LatencyHistogram histogram = new LatencyHistogram();
+		for (int value = 1; value <= 1000; ++value) {
+			histogram.record(value * 1000L);
+		}
+		assertEquals(1000, histogram.getCount());
+		assertEquals(1000, histogram.getMin());
+		assertEquals(1_000_000, histogram.getMax());
+		assertEquals(500_500, histogram.getMean(), 0.001);
+		assertWithinPrecision(1000, histogram.getValueAtPercentile(0));
+		assertEquals(1_000_000, histogram.getValueAtPercentile(100)); // Never above the largest value
+		assertWithinPrecision(500_000, histogram.getValueAtPercentile(50));
+		assertWithinPrecision(900_000, histogram.getValueAtPercentile(90));
+		assertWithinPrecision(990_000, histogram.getValueAtPercentile(99));
+		assertEquals(histogram.getValueAtPercentile(0), histogram.getValueAtPercentile(-5));
+		assertEquals(histogram.getValueAtPercentile(100), histogram.getValueAtPercentile(150));
+	}
+
+	@Test
+	public void testClamp() {
+		LatencyHistogram histogram = new LatencyHistogram();
+		histogram.record(-10);
+		histogram.record(HOUR * 2);
+		assertEquals(0, histogram.getMin());
+		assertEquals(HOUR, histogram.getMax());
+		assertEquals(HOUR, histogram.getValueAtPercentile(100));
+	}
+
+	@Test
+	public void testCopyAndReset() {
+		LatencyHistogram histogram = new LatencyHistogram();
+		histogram.record(100);
+		histogram.record(300);
+		LatencyHistogram copy = new LatencyHistogram();
+		histogram.copyTo(copy);
+		histogram.reset();
+		assertEquals(0, histogram.getCount());
+		assertEquals(0, histogram.getValueAtPercentile(50));
+		assertEquals(2, copy.getCount());
+		assertEquals(100, copy.getMin());
+		assertEquals(300, copy.getMax());
+		assertEquals(200, copy.getMean(), 0);
+	}
+
+	/**
+	 * Get the median of a value and a larger one, which is the upper bound of the bucket of the value.
+	 */
+	private static long median(long value) {
+		LatencyHistogram histogram = new LatencyHistogram();
+		histogram.record(value);
+		histogram.record(HOUR);
+		return histogram.getValueAtPercentile(50);
+	}
+
+	private static void assertWithinPrecision(long expected, long actual) {
+		assertTrue(expected + " reported as " + actual, actual >= expected && actual - expected <= expected / 32);
+	}
+
+}
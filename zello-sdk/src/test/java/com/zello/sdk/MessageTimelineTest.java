@@ -0,0 +1,178 @@
+package com.zello.sdk;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class MessageTimelineTest {
+
+	private MessageTimeline _timeline;
+	private MessageIn _in;
+	private MessageOut _out;
+	private long _time; // Monotonic time in microseconds
+
+	@Before
+	public void setUp() {
+		_timeline = new MessageTimeline();
+		_in = new MessageIn();
+		_out = new MessageOut();
+		_time = 1_000_000;
+	}
+
+	@Test
+	public void testOutgoingMessage() {
+		send("alice", true);
+		assertEquals(1, _timeline.getCount());
+		assertTrue(_timeline.isConnecting(0));
+		assertEquals(0, _timeline.getEndTime(0));
+		send("alice", false);
+		assertFalse(_timeline.isConnecting(0));
+		idle();
+		assertEquals(1, _timeline.getCount());
+		assertFalse(_timeline.isIncoming(0));
+		assertEquals("alice", _timeline.getContactName(0));
+		assertNull(_timeline.getAuthorName(0));
+		assertEquals(ContactType.USER, _timeline.getContactType(0));
+		assertEquals(2000, _timeline.getEndTime(0) - _timeline.getStartTime(0));
+	}
+
+	@Test
+	public void testOutgoingMessageThatNeverConnected() {
+		send("alice", true);
+		idle();
+		assertEquals(1, _timeline.getCount());
+		assertTrue(_timeline.isConnecting(0));
+	}
+
+	@Test
+	public void testIncomingMessages() {
+		receive("news", ContactType.CHANNEL, "alice");
+		receive("news", ContactType.CHANNEL, "alice"); // Same message
+		receive("news", ContactType.CHANNEL, "bob"); // Another author in the same channel starts a new message
+		receive("bob", ContactType.USER, null);
+		idle();
+		assertEquals(3, _timeline.getCount());
+		assertTrue(_timeline.isIncoming(0));
+		assertEquals("news", _timeline.getContactName(0));
+		assertEquals("alice", _timeline.getAuthorName(0));
+		assertEquals(ContactType.CHANNEL, _timeline.getContactType(0));
+		assertEquals("bob", _timeline.getAuthorName(1));
+		assertEquals("bob", _timeline.getContactName(2));
+		assertNull(_timeline.getAuthorName(2));
+		// Each message ends when the next one starts
+		assertEquals(2000, _timeline.getEndTime(0) - _timeline.getStartTime(0));
+		assertEquals(_timeline.getStartTime(1), _timeline.getEndTime(0));
+		assertEquals(_timeline.getStartTime(2), _timeline.getEndTime(1));
+		assertEquals(1000, _timeline.getEndTime(2) - _timeline.getStartTime(2));
+	}
+
+	@Test
+	public void testIncomingAndOutgoingAtOnce() {
+		_in._active = true;
+		_in._from._name = "news";
+		send("alice", false);
+		idle();
+		assertEquals(2, _timeline.getCount());
+		assertFalse(_timeline.isIncoming(0));
+		assertTrue(_timeline.isIncoming(1));
+		assertEquals(_timeline.getStartTime(0), _timeline.getStartTime(1));
+	}
+
+	@Test
+	public void testWraparound() {
+		int total = MessageTimeline.CAPACITY + 10;
+		for (int i = 0; i < total; ++i) {
+			send("user" + i, false);
+			idle();
+		}
+		assertEquals(MessageTimeline.CAPACITY, _timeline.getCount());
+		// The oldest messages were overwritten
+		assertEquals("user10", _timeline.getContactName(0));
+		assertEquals("user" + (total - 1), _timeline.getContactName(MessageTimeline.CAPACITY - 1));
+		for (int i = 1; i < MessageTimeline.CAPACITY; ++i) {
+			assertEquals(2000, _timeline.getStartTime(i) - _timeline.getStartTime(i - 1));
+			assertEquals(1000, _timeline.getEndTime(i) - _timeline.getStartTime(i));
+		}
+		// Searches work across the end of the ring
+		int last = MessageTimeline.CAPACITY - 1;
+		assertEquals(0, _timeline.indexOf(0));
+		assertEquals(last, _timeline.indexOf(_timeline.getStartTime(last)));
+		assertEquals(last + 1, _timeline.indexOf(_timeline.getStartTime(last) + 1));
+		int[] indices = new int[4];
+		assertEquals(3, _timeline.find(_timeline.getStartTime(last - 2), Long.MAX_VALUE, null, indices));
+		assertEquals(last - 2, indices[0]);
+		assertEquals(last, indices[2]);
+		assertEquals(1, _timeline.find(0, Long.MAX_VALUE, "user" + (total - 1), indices));
+		assertEquals(last, indices[0]);
+		assertEquals(0, _timeline.find(0, Long.MAX_VALUE, "user0", indices));
+	}
+
+	@Test
+	public void testActiveMessageOverwritten() {
+		// An incoming message that lasts while the outgoing ones wrap around never ends a message that reused its slot
+		receive("news", ContactType.CHANNEL, "alice");
+		for (int i = 0; i < MessageTimeline.CAPACITY; ++i) {
+			send("user" + i, false);
+			_out._active = false;
+			step();
+		}
+		_in._active = false;
+		step();
+		assertEquals(MessageTimeline.CAPACITY, _timeline.getCount());
+		for (int i = 0; i < MessageTimeline.CAPACITY; ++i) {
+			if (!_timeline.isIncoming(i)) {
+				assertEquals(1000, _timeline.getEndTime(i) - _timeline.getStartTime(i));
+			}
+		}
+	}
+
+	@Test
+	public void testCopy() {
+		send("alice", false);
+		MessageTimeline copy = new MessageTimeline();
+		_timeline.copyTo(copy);
+		idle();
+		send("bob", false);
+		assertEquals(1, copy.getCount());
+		assertEquals("alice", copy.getContactName(0));
+		assertEquals(0, copy.getEndTime(0));
+		_timeline.copyTo(copy);
+		assertEquals(2, copy.getCount());
+		assertTrue(copy.getEndTime(0) > 0);
+	}
+
+	private void send(String to, boolean connecting) {
+		_out._active = true;
+		_out._connecting = connecting;
+		_out._to._name = to;
+		_out._to._type = ContactType.USER;
+		step();
+	}
+
+	private void receive(String from, ContactType type, String author) {
+		_in._active = true;
+		_in._from._name = from;
+		_in._from._type = type;
+		_in._author._name = author;
+		step();
+	}
+
+	private void idle() {
+		_in._active = false;
+		_out._active = false;
+		step();
+	}
+
+	/**
+	 * Record the current states and advance the clock by a second.
+	 */
+	private void step() {
+		_timeline.onMessageState(_in, _out, _time);
+		_time += 1_000_000;
+	}
+
+}
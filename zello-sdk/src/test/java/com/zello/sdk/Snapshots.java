@@ -0,0 +1,27 @@
+package com.zello.sdk;
+
+import androidx.annotation.NonNull;
+
+/**
+ * Builds contact list snapshots for tests.
+ */
+class Snapshots {
+
+	/**
+	 * Create a snapshot of users with the specified names.
+	 */
+	static @NonNull ContactsSnapshot users(long version, @NonNull String... names) {
+		ContactsSnapshot snapshot = new ContactsSnapshot(version, names.length);
+		for (int i = 0; i < names.length; ++i) {
+			set(snapshot, i, names[i], ContactType.USER);
+		}
+		return snapshot;
+	}
+
+	static void set(@NonNull ContactsSnapshot snapshot, int index, String name, @NonNull ContactType type) {
+		snapshot._names[index] = name;
+		snapshot._types[index] = (byte) type.ordinal();
+		snapshot._statuses[index] = (byte) ContactStatus.AVAILABLE.ordinal();
+	}
+
+}
@@ -0,0 +1,58 @@
+package com.zello.sdk;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Random;
+
+import static org.junit.Assert.assertArrayEquals;
+
+public class UtilTest {
+
+	@Test
+	public void testSortShort() {
+		int[] values = new int[0];
+		Util.sort(values, Integer::compare);
+		assertArrayEquals(new int[0], values);
+		values = new int[]{5};
+		Util.sort(values, Integer::compare);
+		assertArrayEquals(new int[]{5}, values);
+		values = new int[]{3, 1, 2};
+		Util.sort(values, Integer::compare);
+		assertArrayEquals(new int[]{1, 2, 3}, values);
+	}
+
+	@Test
+	public void testSortIsStable() {
+		// Sort positions by a key with many duplicates; equal keys must keep their positions in ascending order
+		Random random = new Random(1);
+		for (int length : new int[]{2, 7, 64, 100, 1025}) {
+			int[] keys = new int[length];
+			for (int i = 0; i < length; ++i) {
+				keys[i] = random.nextInt(5);
+			}
+			int[] positions = new int[length];
+			Integer[] expected = new Integer[length];
+			for (int i = 0; i < length; ++i) {
+				positions[i] = i;
+				expected[i] = i;
+			}
+			Util.sort(positions, (a, b) -> Integer.compare(keys[a], keys[b]));
+			Arrays.sort(expected, Comparator.comparingInt(a -> keys[a])); // Stable for objects
+			int[] unboxed = new int[length];
+			for (int i = 0; i < length; ++i) {
+				unboxed[i] = expected[i];
+			}
+			assertArrayEquals(unboxed, positions);
+		}
+	}
+
+	@Test
+	public void testSortDescending() {
+		int[] values = {1, 4, 2, 8, 5, 7};
+		Util.sort(values, (a, b) -> Integer.compare(b, a));
+		assertArrayEquals(new int[]{8, 7, 5, 4, 2, 1}, values);
+	}
+
+}